@@ -0,0 +1,142 @@
+package com.example.demo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.demo.aspect.CircuitBreakerLoggingAspect;
+import com.example.demo.aspect.LoggingAspect;
+import com.example.demo.aspect.UserControllerAspect;
+import com.example.demo.controller.UserController;
+import com.example.demo.dto.UserDto;
+import com.example.demo.service.UserService;
+import com.example.demo.service.impl.UserServiceImpl;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+
+/**
+ * Per-call cost of each aspect in isolation: every benchmark pair calls the
+ * same target once directly and once through a proxy carrying only that aspect.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = BenchmarkApplication.LOGBACK_FORK_ARG)
+public class AspectBenchmark {
+
+    private static final Long USER_ID = 1L;
+
+    @Param({"failure", "rejection"})
+    public String failureType;
+
+    private UserController plainController;
+    private UserController apiLoggedController;
+    private UserService plainService;
+    private UserService loggedService;
+    private FailingClient plainClient;
+    private FailingClient failureLoggedClient;
+
+    @Setup
+    public void setUp() {
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+
+        plainService = new UserServiceImpl();
+        ReflectionTestUtils.setField(plainService, "userRepository", StubUserRepository.create(USER_ID));
+        loggedService = proxy(plainService, new LoggingAspect());
+
+        UserService stubService = new StubUserService();
+        plainController = new UserController();
+        ReflectionTestUtils.setField(plainController, "userService", stubService);
+        apiLoggedController = proxy(plainController, new UserControllerAspect());
+
+        RuntimeException failure = "rejection".equals(failureType)
+                ? CallNotPermittedException.createCallNotPermittedException(
+                        circuitBreakerRegistry.circuitBreaker("userService"))
+                : new RuntimeException("External service failed");
+        plainClient = new FailingClient(failure);
+        CircuitBreakerLoggingAspect circuitBreakerLoggingAspect = new CircuitBreakerLoggingAspect();
+        ReflectionTestUtils.setField(circuitBreakerLoggingAspect, "circuitBreakerRegistry", circuitBreakerRegistry);
+        failureLoggedClient = proxy(plainClient, circuitBreakerLoggingAspect);
+    }
+
+    @Benchmark
+    public ResponseEntity<UserDto> controllerBaseline() {
+        return plainController.getUserById(USER_ID, null);
+    }
+
+    @Benchmark
+    public ResponseEntity<UserDto> controllerWithUserControllerAspect() {
+        return apiLoggedController.getUserById(USER_ID, null);
+    }
+
+    @Benchmark
+    public UserDto serviceBaseline() {
+        return plainService.getUserById(USER_ID);
+    }
+
+    @Benchmark
+    public UserDto serviceWithLoggingAspect() {
+        return loggedService.getUserById(USER_ID);
+    }
+
+    @Benchmark
+    public void failureBaseline(Blackhole blackhole) {
+        try {
+            blackhole.consume(plainClient.call("input"));
+        } catch (RuntimeException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void failureWithCircuitBreakerLoggingAspect(Blackhole blackhole) {
+        try {
+            blackhole.consume(failureLoggedClient.call("input"));
+        } catch (RuntimeException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(T target, Object aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return (T) factory.getProxy();
+    }
+
+    /**
+     * Target for the circuit breaker failure logging aspect; always throws the given exception.
+     */
+    public static class FailingClient {
+
+        private final RuntimeException failure;
+
+        public FailingClient(RuntimeException failure) {
+            this.failure = failure;
+        }
+
+        @CircuitBreaker(name = "userService")
+        public String call(String input) {
+            throw failure;
+        }
+    }
+}
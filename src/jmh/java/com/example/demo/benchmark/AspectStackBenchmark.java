@@ -0,0 +1,70 @@
+package com.example.demo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+
+import com.example.demo.controller.ResilienceController;
+import com.example.demo.controller.UserController;
+import com.example.demo.dto.UserDto;
+import com.example.demo.service.UserService;
+
+/**
+ * The full aspect stack on the real Spring proxies: controller aspects,
+ * service logging and the Resilience4j annotations, backed by the H2 database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = BenchmarkApplication.LOGBACK_FORK_ARG)
+public class AspectStackBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private UserController userController;
+    private UserService userService;
+    private ResilienceController resilienceController;
+
+    @Setup
+    public void setUp() {
+        // the rate limiter would otherwise turn most resilience calls into rejections
+        context = BenchmarkApplication.start(
+                "--resilience4j.ratelimiter.instances.userService.limit-for-period=" + Integer.MAX_VALUE);
+        userController = context.getBean(UserController.class);
+        userService = context.getBean(UserService.class);
+        resilienceController = context.getBean(ResilienceController.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ResponseEntity<UserDto> controllerGetUserById() {
+        return userController.getUserById(1L, null);
+    }
+
+    @Benchmark
+    public UserDto serviceGetUserById() {
+        return userService.getUserById(1L);
+    }
+
+    @Benchmark
+    public ResponseEntity<String> resilienceCombined() {
+        return resilienceController.combinedExample("input");
+    }
+}
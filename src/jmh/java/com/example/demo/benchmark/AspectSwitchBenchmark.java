@@ -0,0 +1,103 @@
+package com.example.demo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.demo.config.AspectSwitchProperties;
+import com.example.demo.aspect.AspectSwitches;
+import com.example.demo.aspect.LoggingAspect;
+import com.example.demo.aspect.UserControllerAspect;
+import com.example.demo.controller.UserController;
+import com.example.demo.dto.UserDto;
+import com.example.demo.service.UserService;
+import com.example.demo.service.impl.UserServiceImpl;
+
+/**
+ * Cost of the logging aspects when switched off at runtime through
+ * {@code /actuator/aspects}: {@code all} suspends every pointcut, {@code method}
+ * switches off only the benchmarked methods, {@code none} leaves them on.
+ * Compare against the baselines, which call the targets without a proxy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = BenchmarkApplication.LOGBACK_FORK_ARG)
+public class AspectSwitchBenchmark {
+
+    private static final Long USER_ID = 1L;
+
+    @Param({"none", "method", "all"})
+    public String disabled;
+
+    private UserController plainController;
+    private UserController apiLoggedController;
+    private UserService plainService;
+    private UserService loggedService;
+
+    @Setup
+    public void setUp() {
+        AspectSwitches aspectSwitches = new AspectSwitches();
+        ReflectionTestUtils.setField(aspectSwitches, "properties", new AspectSwitchProperties());
+        aspectSwitches.init();
+        switch (disabled) {
+            case "method" -> {
+                aspectSwitches.setEnabled("logging", "UserServiceImpl.getUserById", false);
+                aspectSwitches.setEnabled("api-calls", "UserController.getUserById", false);
+            }
+            case "all" -> aspectSwitches.setSuspended(true);
+            default -> { }
+        }
+
+        plainService = new UserServiceImpl();
+        ReflectionTestUtils.setField(plainService, "userRepository", StubUserRepository.create(USER_ID));
+        loggedService = proxy(plainService, new LoggingAspect());
+
+        plainController = new UserController();
+        ReflectionTestUtils.setField(plainController, "userService", new StubUserService());
+        apiLoggedController = proxy(plainController, new UserControllerAspect());
+    }
+
+    @Benchmark
+    public ResponseEntity<UserDto> controllerBaseline() {
+        return plainController.getUserById(USER_ID, null);
+    }
+
+    @Benchmark
+    public ResponseEntity<UserDto> controllerWithUserControllerAspect() {
+        return apiLoggedController.getUserById(USER_ID, null);
+    }
+
+    @Benchmark
+    public UserDto serviceBaseline() {
+        return plainService.getUserById(USER_ID);
+    }
+
+    @Benchmark
+    public UserDto serviceWithLoggingAspect() {
+        return loggedService.getUserById(USER_ID);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(T target, Object aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return (T) factory.getProxy();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.benchmark;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.demo.DemoApplication;
+
+/**
+ * Boots the real application context for benchmarks that need the actual
+ * Spring proxies. No web server is started, SQL logging is off, logs go to
+ * files under target/benchmark-logs and fault injection is disabled so the
+ * success path is measured. {@link #startServer} instead starts a web server
+ * on a random port and leaves fault injection to the caller's arguments.
+ */
+final class BenchmarkApplication {
+
+    static final String LOGBACK_FORK_ARG = "-Dlogback.configurationFile=logback-benchmark.xml";
+
+    private static final String[] COMMON_ARGS = {
+            "--spring.main.banner-mode=off",
+            "--spring.jpa.show-sql=false",
+            "--logging.config=classpath:logback-benchmark.xml"
+    };
+
+    private static final String[] DEFAULT_ARGS = concat(COMMON_ARGS,
+            "--spring.main.web-application-type=none",
+            "--fault-injection.enabled=false");
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String... extraArgs) {
+        return new SpringApplicationBuilder(DemoApplication.class).run(concat(DEFAULT_ARGS, extraArgs));
+    }
+
+    static ConfigurableApplicationContext startServer(SpringApplicationBuilder application, String... extraArgs) {
+        return application.run(concat(concat(COMMON_ARGS, "--server.port=0"), extraArgs));
+    }
+
+    private static String[] concat(String[] args, String... extraArgs) {
+        return Stream.concat(Arrays.stream(args), Arrays.stream(extraArgs)).toArray(String[]::new);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.demo.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.example.demo.config.UserJsonCacheProperties;
+import com.example.demo.config.UserJsonHttpMessageConverter;
+import com.example.demo.dto.UserDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writing user responses with the default Jackson converter versus
+ * UserJsonHttpMessageConverter once its cache is warm, for one user and for
+ * a page of users, with heap and direct buffers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = BenchmarkApplication.LOGBACK_FORK_ARG)
+public class JsonCacheBenchmark {
+
+    private static final Type USER_LIST = new ParameterizedTypeReference<List<UserDto>>() {
+    }.getType();
+
+    @Param({"false", "true"})
+    private boolean direct;
+
+    @Param({"100"})
+    private int pageSize;
+
+    private MappingJackson2HttpMessageConverter jackson;
+    private UserJsonHttpMessageConverter cached;
+    private UserDto user;
+    private List<UserDto> page;
+    private final BufferOutputMessage output = new BufferOutputMessage();
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        UserJsonCacheProperties properties = new UserJsonCacheProperties();
+        properties.setDirect(direct);
+        jackson = new MappingJackson2HttpMessageConverter(objectMapper);
+        cached = new UserJsonHttpMessageConverter(objectMapper, properties);
+
+        page = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            page.add(new UserDto(id, "John", "Doe", "john.doe." + id + "@example.com", 30, null, 3L));
+        }
+        user = page.get(0);
+        cached.write(page, USER_LIST, MediaType.APPLICATION_JSON, output);
+    }
+
+    @Benchmark
+    public int jacksonUser() throws IOException {
+        jackson.write(user, UserDto.class, MediaType.APPLICATION_JSON, output.reset());
+        return output.size();
+    }
+
+    @Benchmark
+    public int cachedUser() throws IOException {
+        cached.write(user, UserDto.class, MediaType.APPLICATION_JSON, output.reset());
+        return output.size();
+    }
+
+    @Benchmark
+    public int jacksonPage() throws IOException {
+        jackson.write(page, USER_LIST, MediaType.APPLICATION_JSON, output.reset());
+        return output.size();
+    }
+
+    @Benchmark
+    public int cachedPage() throws IOException {
+        cached.write(page, USER_LIST, MediaType.APPLICATION_JSON, output.reset());
+        return output.size();
+    }
+
+    /**
+     * Reusable in-memory response so the benchmarks measure the converters, not the buffer.
+     */
+    private static final class BufferOutputMessage implements HttpOutputMessage {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(64 * 1024);
+        private final HttpHeaders headers = new HttpHeaders();
+
+        BufferOutputMessage reset() {
+            body.reset();
+            headers.clear();
+            return this;
+        }
+
+        int size() {
+            return body.size();
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
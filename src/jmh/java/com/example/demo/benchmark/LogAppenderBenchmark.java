@@ -0,0 +1,103 @@
+package com.example.demo.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.demo.logging.GroupCommitRollingFileAppender;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.rolling.RollingFileAppender;
+import ch.qos.logback.core.rolling.SizeAndTimeBasedRollingPolicy;
+import ch.qos.logback.core.util.FileSize;
+
+/**
+ * Log events per second through the stock RollingFileAppender, which writes
+ * and flushes every event, versus GroupCommitRollingFileAppender, which
+ * writes them in batches. Both use the rolling policy and pattern of the
+ * application log, from four threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = BenchmarkApplication.LOGBACK_FORK_ARG)
+@Threads(4)
+public class LogAppenderBenchmark {
+
+    @Param({"rolling", "groupCommit"})
+    public String appender;
+
+    private Path directory;
+    private LoggerContext context;
+    private Logger logger;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("log-appender-benchmark");
+        context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+
+        RollingFileAppender<ILoggingEvent> fileAppender = "groupCommit".equals(appender)
+                ? new GroupCommitRollingFileAppender<>()
+                : new RollingFileAppender<>();
+        fileAppender.setContext(context);
+        fileAppender.setFile(directory.resolve("application.log").toString());
+
+        SizeAndTimeBasedRollingPolicy<ILoggingEvent> rollingPolicy = new SizeAndTimeBasedRollingPolicy<>();
+        rollingPolicy.setContext(context);
+        rollingPolicy.setParent(fileAppender);
+        rollingPolicy.setFileNamePattern(directory.resolve("application.%d{yyyy-MM-dd}.%i.log").toString());
+        rollingPolicy.setMaxFileSize(FileSize.valueOf("10MB"));
+        rollingPolicy.setMaxHistory(7);
+        rollingPolicy.setTotalSizeCap(FileSize.valueOf("100MB"));
+        rollingPolicy.start();
+        fileAppender.setRollingPolicy(rollingPolicy);
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss} [%thread] %-5level %logger{36} - %msg%n");
+        encoder.start();
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+
+        logger = context.getLogger("com.example.demo.service.impl.UserServiceImpl");
+        logger.addAppender(fileAppender);
+        logger.setAdditive(false);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void logEvent() {
+        logger.info("Fetching user with ID: {}", 42L);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.demo.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.demo.dto.UserDto;
+import com.example.demo.util.LoggingUtils;
+
+/**
+ * Cost of LoggingUtils.maskSensitiveData for a single UserDto and for lists of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = BenchmarkApplication.LOGBACK_FORK_ARG)
+public class MaskingBenchmark {
+
+    private UserDto user;
+
+    @Setup
+    public void setUp() {
+        user = newUser(1);
+    }
+
+    @Benchmark
+    public String maskSingleUser() {
+        return LoggingUtils.maskSensitiveData(user);
+    }
+
+    @Benchmark
+    public String maskUserList(UserList list) {
+        return LoggingUtils.maskSensitiveData(list.users);
+    }
+
+    /**
+     * The list sizes, kept in their own state so only maskUserList runs once per size.
+     */
+    @State(Scope.Benchmark)
+    public static class UserList {
+
+        @Param({"10", "1000", "10000"})
+        public int listSize;
+
+        private List<UserDto> users;
+
+        @Setup
+        public void setUp() {
+            users = new ArrayList<>(listSize);
+            for (int i = 0; i < listSize; i++) {
+                users.add(newUser(i));
+            }
+        }
+    }
+
+    private static UserDto newUser(long id) {
+        return new UserDto(id, "First" + id, "Last" + id, "user" + id + "@example.com", 20 + (int) (id % 50),
+                "secret" + id, 0L);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.demo.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.demo.dto.UserBatchResult;
+import com.example.demo.dto.UserDto;
+import com.example.demo.service.UserService;
+
+/**
+ * Users created per second through UserService at different BCrypt costs, one
+ * at a time and as batches whose passwords are hashed in parallel. Four
+ * writers share the passwordHashing pool, which keeps its default size of one
+ * thread per CPU.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = BenchmarkApplication.LOGBACK_FORK_ARG)
+public class PasswordHashingBenchmark {
+
+    static final int BATCH_SIZE = 20;
+
+    @Param({"4", "8", "10", "12"})
+    public int strength;
+
+    private final AtomicLong emails = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("--password.hashing.strength=" + strength);
+        userService = context.getBean(UserService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserDto createUser() {
+        return userService.createUser(newUser());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public UserBatchResult createUsers() {
+        List<UserDto> users = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            users.add(newUser());
+        }
+        return userService.createUsers(users);
+    }
+
+    private UserDto newUser() {
+        long n = emails.incrementAndGet();
+        UserDto user = new UserDto();
+        user.setFirstName("Bench");
+        user.setLastName("User" + n);
+        user.setEmail("bench" + n + "@example.com");
+        user.setAge(30);
+        user.setPassword("correct horse battery staple " + n);
+        return user;
+    }
+}
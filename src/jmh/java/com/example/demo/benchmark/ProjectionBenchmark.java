@@ -0,0 +1,95 @@
+package com.example.demo.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.demo.dto.UserDto;
+import com.example.demo.dto.UserSummary;
+import com.example.demo.model.User;
+import com.example.demo.repository.UserRepository;
+
+/**
+ * Read paths through entities (findAll / findById plus the hand-written
+ * mapping UserServiceImpl used before) versus the UserSummary projection
+ * queries, against a seeded table. Scores are rows per second; with the gc
+ * profiler, gc.alloc.rate.norm is bytes allocated per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = BenchmarkApplication.LOGBACK_FORK_ARG)
+public class ProjectionBenchmark {
+
+    static final int ROWS = 10_000;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("--data.seed.users=" + ROWS);
+        userRepository = context.getBean(UserRepository.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<UserDto> allEntities() {
+        return userRepository.findAll().stream()
+                .map(ProjectionBenchmark::toDto)
+                .toList();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<UserDto> allProjections() {
+        return userRepository.findAllSummaries().stream()
+                .map(UserSummary::toDto)
+                .toList();
+    }
+
+    @Benchmark
+    public UserDto entityById() {
+        return userRepository.findById(randomId()).map(ProjectionBenchmark::toDto).orElseThrow();
+    }
+
+    @Benchmark
+    public UserDto projectionById() {
+        return userRepository.findSummaryById(randomId()).map(UserSummary::toDto).orElseThrow();
+    }
+
+    private static long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, ROWS + 1);
+    }
+
+    private static UserDto toDto(User user) {
+        UserDto userDto = new UserDto();
+        userDto.setId(user.getId());
+        userDto.setFirstName(user.getFirstName());
+        userDto.setLastName(user.getLastName());
+        userDto.setEmail(user.getEmail());
+        userDto.setAge(user.getAge());
+        return userDto;
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.demo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.demo.dto.UserDto;
+import com.example.demo.service.UserService;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+
+/**
+ * Overhead of the Resilience4j decorator chain built from the "userService"
+ * instance configuration, in the order the annotations apply it
+ * (Retry, CircuitBreaker, RateLimiter, Bulkhead), around a constant supplier
+ * and around the real userService lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = BenchmarkApplication.LOGBACK_FORK_ARG)
+public class ResilienceDecoratorBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private Supplier<String> constant;
+    private Supplier<String> decoratedConstant;
+    private Supplier<UserDto> lookup;
+    private Supplier<UserDto> decoratedLookup;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        UserService userService = context.getBean(UserService.class);
+
+        String value = "response";
+        constant = () -> value;
+        lookup = () -> userService.getUserById(1L);
+        decoratedConstant = decorate(constant);
+        decoratedLookup = decorate(lookup);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String constantBaseline() {
+        return constant.get();
+    }
+
+    @Benchmark
+    public String constantDecorated() {
+        return decoratedConstant.get();
+    }
+
+    @Benchmark
+    public UserDto lookupBaseline() {
+        return lookup.get();
+    }
+
+    @Benchmark
+    public UserDto lookupDecorated() {
+        return decoratedLookup.get();
+    }
+
+    private <T> Supplier<T> decorate(Supplier<T> supplier) {
+        CircuitBreaker circuitBreaker = CircuitBreaker.of("benchmark",
+                context.getBean(CircuitBreakerRegistry.class).circuitBreaker("userService").getCircuitBreakerConfig());
+        // keep the configured refresh period but never reject, so the permit path is what gets measured
+        RateLimiter rateLimiter = RateLimiter.of("benchmark", RateLimiterConfig
+                .from(context.getBean(RateLimiterRegistry.class).rateLimiter("userService").getRateLimiterConfig())
+                .limitForPeriod(Integer.MAX_VALUE)
+                .build());
+        Retry retry = Retry.of("benchmark",
+                context.getBean(RetryRegistry.class).retry("userService").getRetryConfig());
+        Bulkhead bulkhead = Bulkhead.of("benchmark",
+                context.getBean(BulkheadRegistry.class).bulkhead("userService").getBulkheadConfig());
+
+        return Retry.decorateSupplier(retry,
+                CircuitBreaker.decorateSupplier(circuitBreaker,
+                        RateLimiter.decorateSupplier(rateLimiter,
+                                Bulkhead.decorateSupplier(bulkhead, supplier))));
+    }
+}
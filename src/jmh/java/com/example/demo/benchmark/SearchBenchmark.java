@@ -0,0 +1,96 @@
+package com.example.demo.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.demo.dto.UserDto;
+import com.example.demo.service.UserService;
+
+/**
+ * Search latency through UserService against seeded tables of growing size.
+ * With the email, (last name, first name) and age indexes each lookup reads
+ * only the rows it returns, so scores should stay roughly flat across rows.
+ * The exception is byLastNamePrefixAndAge: the age is filtered while walking
+ * the name index, so windows at the tails of the age distribution read more
+ * of a prefix's rows as the table grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {BenchmarkApplication.LOGBACK_FORK_ARG, "-Xmx3g"})
+public class SearchBenchmark {
+
+    private static final int SAMPLES = 1024;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"10000", "100000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private String[] emails;
+    private String[] lastNamePrefixes;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("--data.seed.users=" + rows);
+        userService = context.getBean(UserService.class);
+
+        // Search keys taken from random existing users
+        emails = new String[SAMPLES];
+        lastNamePrefixes = new String[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            UserDto user = userService.getUserById(ThreadLocalRandom.current().nextLong(1, rows + 1));
+            emails[i] = user.getEmail();
+            lastNamePrefixes[i] = user.getLastName().substring(0, Math.min(3, user.getLastName().length()));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<UserDto> byEmail() {
+        return userService.searchUsers(emails[sample()], null, null, null, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<UserDto> byLastNamePrefix() {
+        return userService.searchUsers(null, lastNamePrefixes[sample()], null, null, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<UserDto> byLastNamePrefixAndAge() {
+        int minAge = ThreadLocalRandom.current().nextInt(18, 80);
+        return userService.searchUsers(null, lastNamePrefixes[sample()], minAge, minAge + 10, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<UserDto> byAgeRange() {
+        int minAge = ThreadLocalRandom.current().nextInt(18, 80);
+        return userService.searchUsers(null, null, minAge, minAge + 5, 0, PAGE_SIZE);
+    }
+
+    private static int sample() {
+        return ThreadLocalRandom.current().nextInt(SAMPLES);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.demo.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to ready of a fresh JVM, from process start until the web server is up
+ * and DataInitializer has run, for the startup artifacts built by the startup
+ * profile:
+ *
+ * <pre>
+ * ./mvnw -Pstartup,benchmark verify -Djmh.includes=StartupBenchmark
+ * </pre>
+ *
+ * Modes: plain JVM, AOT-processed context, and AOT plus the AppCDS archive
+ * from the training run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StartupBenchmark {
+
+    private static final Path STARTUP_DIRECTORY = Path.of("target", "startup");
+
+    @Param({"jvm", "aot", "aot-cds"})
+    public String mode;
+
+    private List<String> command;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path jar;
+        try (Stream<Path> files = Files.list(STARTUP_DIRECTORY)) {
+            jar = files.filter(file -> file.getFileName().toString().endsWith("-startup.jar"))
+                    .findFirst()
+                    .orElseThrow();
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("Startup artifacts missing, build them with -Pstartup", e);
+        }
+
+        command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (!mode.equals("jvm")) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        if (mode.equals("aot-cds")) {
+            command.add("-XX:SharedArchiveFile=application.jsa");
+        }
+        command.addAll(List.of("-Dstartup.exit-when-ready=true",
+                "-jar", jar.getFileName().toString(), "--server.port=0"));
+    }
+
+    @Benchmark
+    public int timeToReady() throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command)
+                .directory(STARTUP_DIRECTORY.toFile())
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectErrorStream(true)
+                .start();
+        int exitCode = process.waitFor();
+        if (exitCode != 0) {
+            throw new IllegalStateException("Application exited with " + exitCode);
+        }
+        return exitCode;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.demo.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+
+import com.example.demo.dto.UserSummary;
+import com.example.demo.model.User;
+import com.example.demo.repository.UserRepository;
+
+/**
+ * In-memory UserRepository answering lookups by id with a fixed user, so
+ * service benchmarks measure UserServiceImpl and its aspects rather than
+ * the database. Any other repository method throws.
+ */
+final class StubUserRepository {
+
+    private StubUserRepository() {
+    }
+
+    static UserRepository create(Long id) {
+        User user = new User(id, "John", "Doe", "john.doe@example.com", 30, "password123");
+        UserSummary summary = new UserSummary(id, "John", "Doe", "john.doe@example.com", 30, 0L);
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[] {UserRepository.class},
+                (proxy, method, args) -> {
+                    if ("findSummaryById".equals(method.getName())) {
+                        return Optional.of(summary);
+                    }
+                    if ("findById".equals(method.getName())) {
+                        return Optional.of(user);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.demo.benchmark;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.example.demo.dto.UserBatchResult;
+import com.example.demo.dto.UserDto;
+import com.example.demo.dto.UserListVersion;
+import com.example.demo.service.UserService;
+
+/**
+ * In-memory UserService returning a fixed user, so controller benchmarks
+ * measure the controller and its aspects rather than the database.
+ */
+class StubUserService implements UserService {
+
+    private final UserDto user = new UserDto(1L, "John", "Doe", "john.doe@example.com", 30, null, 0L);
+
+    @Override
+    public UserDto createUser(UserDto userDto) {
+        return user;
+    }
+
+    @Override
+    public UserDto getUserById(Long id) {
+        return user;
+    }
+
+    @Override
+    public Long getUserVersion(Long id) {
+        return user.getVersion();
+    }
+
+    @Override
+    public List<UserDto> getAllUsers() {
+        return List.of(user);
+    }
+
+    @Override
+    public UserListVersion getAllUsersVersion() {
+        return UserListVersion.of(List.of(user));
+    }
+
+    @Override
+    public List<UserDto> getUsersAfter(Long afterId, int limit) {
+        return List.of(user);
+    }
+
+    @Override
+    public UserListVersion getUsersAfterVersion(Long afterId, int limit) {
+        return UserListVersion.of(List.of(user));
+    }
+
+    @Override
+    public void streamAllUsers(Consumer<UserDto> consumer) {
+        consumer.accept(user);
+    }
+
+    @Override
+    public List<UserDto> searchUsers(String email, String lastNamePrefix, Integer minAge, Integer maxAge,
+            int page, int size) {
+        return List.of(user);
+    }
+
+    @Override
+    public UserDto updateUser(Long id, UserDto userDto) {
+        return user;
+    }
+
+    @Override
+    public void deleteUser(Long id, Long version) {
+    }
+
+    @Override
+    public UserBatchResult createUsers(List<UserDto> users) {
+        return UserBatchResult.completed(List.of());
+    }
+
+    @Override
+    public UserBatchResult updateUsers(List<UserDto> users) {
+        return UserBatchResult.completed(List.of());
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.demo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.ClassUtils;
+
+import com.example.demo.HelloController;
+import com.example.demo.aspect.LoggingAspect;
+import com.example.demo.controller.UserController;
+import com.example.demo.dto.UserDto;
+import com.example.demo.service.UserService;
+
+/**
+ * The application aspects as Spring AOP proxies versus compile-time woven.
+ * The weaving mode is decided by the build, so run this once per mode and
+ * compare the two result files:
+ *
+ * <pre>
+ * ./mvnw -Pbenchmark verify -Djmh.includes=WeavingModeBenchmark
+ * ./mvnw -Paspectj,benchmark verify -Djmh.includes=WeavingModeBenchmark
+ * </pre>
+ *
+ * The log level parameter separates the cost of the advice dispatch itself
+ * (warn, nothing is written) from the cost of the logging it does (debug).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = BenchmarkApplication.LOGBACK_FORK_ARG)
+public class WeavingModeBenchmark {
+
+    @Param({"warn", "debug"})
+    public String logLevel;
+
+    private ConfigurableApplicationContext context;
+    private HelloController helloController;
+    private UserController userController;
+    private UserService userService;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start(
+                "--logging.level.com.example.demo=" + logLevel,
+                "--logging.level.UserControllerLogger=" + logLevel);
+        helloController = context.getBean(HelloController.class);
+        userController = context.getBean(UserController.class);
+        userService = context.getBean(UserService.class);
+        System.out.println("Weaving mode: "
+                + (ClassUtils.hasMethod(LoggingAspect.class, "aspectOf") ? "compile-time" : "proxy"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String hello() {
+        return helloController.hello();
+    }
+
+    @Benchmark
+    public ResponseEntity<UserDto> controllerGetUserById() {
+        return userController.getUserById(1L, null);
+    }
+
+    @Benchmark
+    public UserDto serviceGetUserById() {
+        return userService.getUserById(1L);
+    }
+}
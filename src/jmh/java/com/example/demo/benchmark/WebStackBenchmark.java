@@ -0,0 +1,109 @@
+package com.example.demo.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.demo.DemoApplication;
+
+/**
+ * Requests per second through /api/resilience/circuit-breaker on Spring MVC
+ * (Tomcat, a worker thread per request) and on the WebFlux variant (Reactor
+ * Netty), with the "externalService" fault injection target as the
+ * downstream. Every benchmark thread is a closed-loop HTTP client, and 400
+ * of them are twice Tomcat's 200 workers; change it with {@code -t}. The
+ * WebFlux application is only built by the reactive profile:
+ *
+ * <pre>
+ * ./mvnw -Preactive,benchmark verify -Djmh.includes=WebStackBenchmark
+ * </pre>
+ *
+ * The bean logging aspect is off in both, so each request carries the same
+ * {@code @LogApiCall} logging.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(400)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = BenchmarkApplication.LOGBACK_FORK_ARG)
+public class WebStackBenchmark {
+
+    private static final String REACTIVE_APPLICATION = "com.example.demo.reactive.ReactiveDemoApplication";
+
+    @Param({"mvc", "webflux"})
+    public String stack;
+
+    /**
+     * Downstream latency in milliseconds.
+     */
+    @Param({"0", "500"})
+    public int latency;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        SpringApplicationBuilder application = stack.equals("webflux")
+                ? reactiveApplication()
+                : new SpringApplicationBuilder(DemoApplication.class);
+        context = BenchmarkApplication.startServer(application,
+                "--aspects.disabled=logging",
+                "--circuit-breaker.state.enabled=false",
+                "--fault-injection.targets.externalService.error-rate=0",
+                "--fault-injection.targets.externalService.latency=" + (latency > 0 ? "FIXED" : "NONE"),
+                "--fault-injection.targets.externalService.latency-mean=" + latency + "ms");
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/resilience/circuit-breaker/load"))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int circuitBreaker() throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+
+    private static SpringApplicationBuilder reactiveApplication() throws ReflectiveOperationException {
+        Class<?> application;
+        try {
+            application = Class.forName(REACTIVE_APPLICATION);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("WebFlux application missing, build with -Preactive", e);
+        }
+        return (SpringApplicationBuilder) application.getMethod("application").invoke(null);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.demo.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+/**
+ * Records circuit breaker state transitions as they happen, plus a
+ * once-per-second sample of every breaker's state and metrics.
+ */
+final class BreakerTimeline {
+
+    private final CircuitBreakerRegistry registry;
+    private final List<String> transitions = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> samples = Collections.synchronizedList(new ArrayList<>());
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "breaker-timeline");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private long startNanos;
+
+    BreakerTimeline(CircuitBreakerRegistry registry) {
+        this.registry = registry;
+    }
+
+    void start() {
+        startNanos = System.nanoTime();
+        for (CircuitBreaker circuitBreaker : registry.getAllCircuitBreakers()) {
+            circuitBreaker.getEventPublisher().onStateTransition(event -> transitions.add(String.format("%d,%s,%s,%s",
+                    elapsedMillis(), event.getCircuitBreakerName(),
+                    event.getStateTransition().getFromState(), event.getStateTransition().getToState())));
+        }
+        sampler.scheduleAtFixedRate(this::sample, 0, 1, TimeUnit.SECONDS);
+    }
+
+    void stop() {
+        sampler.shutdownNow();
+    }
+
+    List<String> transitions() {
+        return List.copyOf(transitions);
+    }
+
+    void write(Path directory) throws IOException {
+        List<String> transitionLines = new ArrayList<>();
+        transitionLines.add("elapsedMs,breaker,from,to");
+        transitionLines.addAll(transitions());
+        Files.write(directory.resolve("breaker-transitions.csv"), transitionLines);
+
+        List<String> sampleLines = new ArrayList<>();
+        sampleLines.add("elapsedMs,breaker,state,failureRate,slowCallRate,bufferedCalls,notPermittedCalls");
+        sampleLines.addAll(List.copyOf(samples));
+        Files.write(directory.resolve("breaker-timeline.csv"), sampleLines);
+    }
+
+    private void sample() {
+        long elapsed = elapsedMillis();
+        for (CircuitBreaker circuitBreaker : registry.getAllCircuitBreakers()) {
+            CircuitBreaker.Metrics metrics = circuitBreaker.getMetrics();
+            samples.add(String.format("%d,%s,%s,%.1f,%.1f,%d,%d", elapsed, circuitBreaker.getName(),
+                    circuitBreaker.getState(), metrics.getFailureRate(), metrics.getSlowCallRate(),
+                    metrics.getNumberOfBufferedCalls(), metrics.getNumberOfNotPermittedCalls()));
+        }
+    }
+
+    private long elapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.demo.loadtest;
+
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency histograms and status counts for one endpoint (or the aggregate).
+ * Response time is measured from the intended send time, so a stalled
+ * server is charged for every request it delayed (coordinated omission
+ * correction); service time is measured from the actual send.
+ */
+final class EndpointStats {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final String name;
+    private final Histogram responseTime = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+    private final Histogram serviceTime = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final LongAdder failures = new LongAdder();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    void record(long intendedNanos, long sentNanos, long completedNanos, HttpResponse<?> response, Throwable error) {
+        responseTime.recordValue(toMicros(completedNanos - intendedNanos));
+        serviceTime.recordValue(toMicros(completedNanos - sentNanos));
+        String outcome = error != null ? error.getClass().getSimpleName() : String.valueOf(response.statusCode());
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        if (error != null || response.statusCode() >= 400) {
+            failures.increment();
+        }
+    }
+
+    String name() {
+        return name;
+    }
+
+    Histogram responseTime() {
+        return responseTime;
+    }
+
+    Histogram serviceTime() {
+        return serviceTime;
+    }
+
+    long count() {
+        return responseTime.getTotalCount();
+    }
+
+    long failures() {
+        return failures.sum();
+    }
+
+    Map<String, Long> outcomes() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> snapshot.put(outcome, count.sum()));
+        return snapshot;
+    }
+
+    double percentileMillis(double percentile) {
+        return responseTime.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(MAX_TRACKABLE_MICROS, Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+}
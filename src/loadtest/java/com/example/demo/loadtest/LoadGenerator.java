@@ -0,0 +1,86 @@
+package com.example.demo.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop request generator: request i is due at start + i / rate no
+ * matter how long earlier requests take, endpoints are used round-robin.
+ */
+final class LoadGenerator {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final List<String> endpoints;
+    private final double rate;
+
+    LoadGenerator(HttpClient client, URI baseUri, List<String> endpoints, double rate) {
+        this.client = client;
+        this.baseUri = baseUri;
+        this.endpoints = endpoints;
+        this.rate = rate;
+    }
+
+    Result run(Duration duration) throws InterruptedException, TimeoutException {
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        List<HttpRequest> requests = endpoints.stream()
+                .map(endpoint -> {
+                    stats.put(endpoint, new EndpointStats(endpoint));
+                    return HttpRequest.newBuilder(baseUri.resolve(endpoint)).timeout(REQUEST_TIMEOUT).GET().build();
+                })
+                .toList();
+        EndpointStats total = new EndpointStats("total");
+
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        Phaser inFlight = new Phaser(1);
+        LongAdder completedInWindow = new LongAdder();
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            int index = (int) (i % requests.size());
+            EndpointStats endpointStats = stats.get(endpoints.get(index));
+            inFlight.register();
+            long sent = System.nanoTime();
+            client.sendAsync(requests.get(index), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long completed = System.nanoTime();
+                        if (completed < end) {
+                            completedInWindow.increment();
+                        }
+                        endpointStats.record(intended, sent, completed, response, error);
+                        total.record(intended, sent, completed, response, error);
+                        inFlight.arriveAndDeregister();
+                    });
+        }
+
+        inFlight.awaitAdvanceInterruptibly(inFlight.arrive(),
+                REQUEST_TIMEOUT.toSeconds() + 5, TimeUnit.SECONDS);
+        // Throughput counts what completed within the window; the drain above only completes the latency histograms
+        return new Result(stats, total, completedInWindow.sum() / (duration.toNanos() / 1e9));
+    }
+
+    record Result(Map<String, EndpointStats> endpoints, EndpointStats total, double throughput) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.demo.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Writes HDR percentile distributions and a summary for a load test run, and
+ * compares p99 and throughput against a stored baseline.
+ */
+final class LoadTestReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final LoadGenerator.Result result;
+    private final LoadTestSettings settings;
+
+    LoadTestReport(LoadGenerator.Result result, LoadTestSettings settings) {
+        this.result = result;
+        this.settings = settings;
+    }
+
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        List<EndpointStats> all = new ArrayList<>(result.endpoints().values());
+        all.add(result.total());
+        for (EndpointStats stats : all) {
+            String fileName = fileName(stats.name());
+            try (OutputStream out = Files.newOutputStream(directory.resolve(fileName + ".hgrm"));
+                 PrintStream printStream = new PrintStream(out)) {
+                stats.responseTime().outputPercentileDistribution(printStream, MICROS_PER_MILLI);
+            }
+            try (OutputStream out = Files.newOutputStream(directory.resolve(fileName + "-service-time.hgrm"));
+                 PrintStream printStream = new PrintStream(out)) {
+                stats.serviceTime().outputPercentileDistribution(printStream, MICROS_PER_MILLI);
+            }
+        }
+        Files.writeString(directory.resolve("summary.txt"), summary());
+    }
+
+    String summary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Target rate %.0f req/s, achieved %.1f req/s over %s%n",
+                settings.rate(), result.throughput(), settings.duration()));
+        sb.append(String.format("%-42s %8s %8s %9s %9s %9s %9s %9s  %s%n",
+                "endpoint (response time, ms)", "count", "errors", "p50", "p90", "p99", "p99.9", "max", "outcomes"));
+        List<EndpointStats> all = new ArrayList<>(result.endpoints().values());
+        all.add(result.total());
+        for (EndpointStats stats : all) {
+            sb.append(String.format("%-42s %8d %8d %9.1f %9.1f %9.1f %9.1f %9.1f  %s%n",
+                    stats.name(), stats.count(), stats.failures(),
+                    stats.percentileMillis(50), stats.percentileMillis(90), stats.percentileMillis(99),
+                    stats.percentileMillis(99.9), stats.responseTime().getMaxValue() / MICROS_PER_MILLI,
+                    stats.outcomes()));
+        }
+        return sb.toString();
+    }
+
+    void writeBaseline(Path baseline) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("throughput.rps", String.format("%.1f", result.throughput()));
+        properties.setProperty("total.p99.ms", String.format("%.1f", result.total().percentileMillis(99)));
+        for (EndpointStats stats : result.endpoints().values()) {
+            properties.setProperty(stats.name() + ".p99.ms", String.format("%.1f", stats.percentileMillis(99)));
+        }
+        Files.createDirectories(baseline.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(baseline)) {
+            properties.store(writer, String.format("Load test baseline at %.0f req/s for %s",
+                    settings.rate(), settings.duration()));
+        }
+    }
+
+    /**
+     * @return the regressions found; empty if within tolerance or no baseline exists
+     */
+    List<String> compareWithBaseline(Path baseline) throws IOException {
+        List<String> regressions = new ArrayList<>();
+        if (!Files.exists(baseline)) {
+            return regressions;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(baseline)) {
+            properties.load(reader);
+        }
+
+        String baselineThroughput = properties.getProperty("throughput.rps");
+        if (baselineThroughput != null) {
+            double expected = Double.parseDouble(baselineThroughput);
+            if (result.throughput() < expected * (1 - settings.throughputTolerance())) {
+                regressions.add(String.format("throughput %.1f req/s is below baseline %.1f req/s",
+                        result.throughput(), expected));
+            }
+        }
+        checkP99(properties, "total", result.total(), regressions);
+        for (EndpointStats stats : result.endpoints().values()) {
+            checkP99(properties, stats.name(), stats, regressions);
+        }
+        return regressions;
+    }
+
+    private void checkP99(Properties properties, String key, EndpointStats stats, List<String> regressions) {
+        String baselineP99 = properties.getProperty(key + ".p99.ms");
+        if (baselineP99 == null) {
+            return;
+        }
+        double expected = Double.parseDouble(baselineP99);
+        double actual = stats.percentileMillis(99);
+        if (actual > expected * (1 + settings.p99Tolerance())) {
+            regressions.add(String.format("%s p99 %.1f ms exceeds baseline %.1f ms", key, actual, expected));
+        }
+    }
+
+    private static String fileName(String endpoint) {
+        String name = endpoint.replaceAll("[^A-Za-z0-9]+", "-").replaceAll("(^-|-$)", "");
+        return name.isEmpty() ? "root" : name;
+    }
+}
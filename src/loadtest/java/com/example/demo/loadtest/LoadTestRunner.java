@@ -0,0 +1,89 @@
+package com.example.demo.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.demo.DemoApplication;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+/**
+ * Boots the application on a random port, drives open-loop traffic against
+ * the configured endpoints, writes HDR latency reports and the circuit
+ * breaker timeline, and exits non-zero if p99 or throughput regressed
+ * against the stored baseline.
+ *
+ * <p>Program arguments are passed to the application, so the simulated
+ * downstream can be shaped with fault injection settings, e.g.
+ * {@code --fault-injection.targets.externalService.scenario=FLAPPING}.
+ */
+public final class LoadTestRunner {
+
+    private static final String[] DEFAULT_APP_ARGS = {
+            "--server.port=0",
+            "--spring.main.banner-mode=off",
+            "--spring.jpa.show-sql=false",
+            "--logging.config=classpath:logback-loadtest.xml"
+    };
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        String[] appArgs = Stream.concat(Arrays.stream(DEFAULT_APP_ARGS), Arrays.stream(args))
+                .toArray(String[]::new);
+
+        int exitCode;
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class).run(appArgs)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(executor)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            LoadGenerator generator = new LoadGenerator(client, URI.create("http://localhost:" + port),
+                    settings.endpoints(), settings.rate());
+
+            System.out.printf("Warming up for %s at %.0f req/s against port %d%n",
+                    settings.warmup(), settings.rate(), port);
+            generator.run(settings.warmup());
+
+            BreakerTimeline timeline = new BreakerTimeline(context.getBean(CircuitBreakerRegistry.class));
+            System.out.printf("Measuring for %s at %.0f req/s%n", settings.duration(), settings.rate());
+            timeline.start();
+            LoadGenerator.Result result = generator.run(settings.duration());
+            timeline.stop();
+
+            LoadTestReport report = new LoadTestReport(result, settings);
+            report.write(settings.reportDir());
+            timeline.write(settings.reportDir());
+            System.out.print(report.summary());
+            System.out.println("Breaker transitions (elapsedMs,breaker,from,to): " + timeline.transitions());
+            System.out.println("Reports written to " + settings.reportDir().toAbsolutePath());
+
+            if (settings.writeBaseline()) {
+                report.writeBaseline(settings.baseline());
+                System.out.println("Baseline written to " + settings.baseline());
+                exitCode = 0;
+            } else {
+                List<String> regressions = report.compareWithBaseline(settings.baseline());
+                regressions.forEach(regression -> System.out.println("REGRESSION: " + regression));
+                exitCode = regressions.isEmpty() ? 0 : 1;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        System.exit(exitCode);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.demo.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties
+ * (the loadtest Maven profile passes them through).
+ */
+record LoadTestSettings(
+        double rate,
+        Duration duration,
+        Duration warmup,
+        List<String> endpoints,
+        Path baseline,
+        double p99Tolerance,
+        double throughputTolerance,
+        boolean writeBaseline,
+        Path reportDir) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Double.parseDouble(System.getProperty("loadtest.rate", "200")),
+                DurationStyle.detectAndParse(System.getProperty("loadtest.duration", "30s")),
+                DurationStyle.detectAndParse(System.getProperty("loadtest.warmup", "5s")),
+                Arrays.stream(System.getProperty("loadtest.endpoints", "/api/users/1").split(","))
+                        .map(String::trim)
+                        .filter(endpoint -> !endpoint.isEmpty())
+                        .toList(),
+                Path.of(System.getProperty("loadtest.baseline", "src/loadtest/resources/baseline.properties")),
+                Double.parseDouble(System.getProperty("loadtest.p99Tolerance", "0.25")),
+                Double.parseDouble(System.getProperty("loadtest.throughputTolerance", "0.10")),
+                Boolean.parseBoolean(System.getProperty("loadtest.writeBaseline", "false")),
+                Path.of(System.getProperty("loadtest.reportDir", "target/loadtest")));
+    }
+}
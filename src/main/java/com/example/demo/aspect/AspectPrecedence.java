@@ -0,0 +1,16 @@
+package com.example.demo.aspect;
+
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.DeclarePrecedence;
+
+/**
+ * Order of the application aspects when ajc weaves them (aspectj profile),
+ * where {@code @Order} is ignored. Fault injection stays innermost so the
+ * other aspects see injected failures like real ones. Not a bean, so Spring
+ * AOP never looks at it.
+ */
+@Aspect
+@DeclarePrecedence("com.example.demo.aspect.UserControllerAspect, com.example.demo.aspect.LoggingAspect, "
+        + "com.example.demo.aspect.CircuitBreakerLoggingAspect, com.example.demo.aspect.FaultInjectionAspect")
+public class AspectPrecedence {
+}
@@ -0,0 +1,150 @@
+package com.example.demo.aspect;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.reflect.MethodSignature;
+
+/**
+ * Runtime on/off switch for one pointcut of the diagnostic aspects. Each
+ * advice asks {@link #isActive(JoinPoint)} first; the whole state is one
+ * immutable snapshot behind a single volatile read, so a switched-off
+ * pointcut costs that read and nothing else. Only when classes or methods
+ * have been switched off individually is the join point's signature looked
+ * at, and the decision is then cached per method.
+ * <p>
+ * A pointcut can be switched off on its own ({@code enabled}) or together
+ * with all the others ({@code suspended}); resuming restores whatever was
+ * switched off individually before.
+ */
+public enum AspectSwitch {
+
+    /** {@link LoggingAspect}: services, repositories and controllers. */
+    LOGGING("logging"),
+    /** {@link UserControllerAspect}: methods annotated with {@link LogApiCall}. */
+    API_CALLS("api-calls"),
+    /** {@link CircuitBreakerLoggingAspect}: failures of circuit breaker protected methods. */
+    CIRCUIT_BREAKER("circuit-breaker");
+
+    private final String id;
+
+    private volatile State state = State.ACTIVE;
+
+    AspectSwitch(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Whether the advice should run for this join point.
+     */
+    public boolean isActive(JoinPoint joinPoint) {
+        State current = state;
+        if (!current.active) {
+            return false;
+        }
+        return current.disabledTargets.isEmpty() || current.allows(joinPoint.getSignature());
+    }
+
+    /**
+     * Whether the pointcut is on, for callers that have no join point (e.g.
+     * Reactor operators); class and method rules are not consulted.
+     */
+    public boolean isActive() {
+        return state.active;
+    }
+
+    /**
+     * @return the switch with this id, or null if there is none
+     */
+    public static AspectSwitch find(String id) {
+        for (AspectSwitch aspectSwitch : values()) {
+            if (aspectSwitch.id.equals(id)) {
+                return aspectSwitch;
+            }
+        }
+        return null;
+    }
+
+    synchronized void setEnabled(boolean enabled) {
+        State current = state;
+        state = new State(enabled, current.suspended, current.disabledTargets);
+    }
+
+    synchronized void setSuspended(boolean suspended) {
+        State current = state;
+        state = new State(current.enabled, suspended, current.disabledTargets);
+    }
+
+    /**
+     * Switches a class ({@code UserServiceImpl} or its fully qualified name)
+     * or a single method ({@code UserServiceImpl.getUserById}) on or off.
+     */
+    synchronized void setTargetEnabled(String target, boolean enabled) {
+        State current = state;
+        Set<String> targets = new LinkedHashSet<>(current.disabledTargets);
+        if (enabled ? !targets.remove(target) : !targets.add(target)) {
+            return;
+        }
+        state = new State(current.enabled, current.suspended, targets);
+    }
+
+    synchronized void reset() {
+        state = State.ACTIVE;
+    }
+
+    Map<String, Object> describe() {
+        State current = state;
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("enabled", current.enabled);
+        description.put("suspended", current.suspended);
+        description.put("active", current.active);
+        description.put("disabledTargets", current.disabledTargets);
+        return description;
+    }
+
+    private static final class State {
+
+        static final State ACTIVE = new State(true, false, Set.of());
+
+        final boolean enabled;
+        final boolean suspended;
+        final boolean active;
+        final Set<String> disabledTargets;
+        final Map<Method, Boolean> decisions = new ConcurrentHashMap<>();
+
+        State(boolean enabled, boolean suspended, Set<String> disabledTargets) {
+            this.enabled = enabled;
+            this.suspended = suspended;
+            this.active = enabled && !suspended;
+            this.disabledTargets = Collections.unmodifiableSet(disabledTargets);
+        }
+
+        boolean allows(Signature signature) {
+            if (signature instanceof MethodSignature methodSignature) {
+                return decisions.computeIfAbsent(methodSignature.getMethod(), method -> allows(
+                        method.getDeclaringClass().getName(), method.getDeclaringClass().getSimpleName(),
+                        method.getName()));
+            }
+            return allows(signature.getDeclaringTypeName(), signature.getDeclaringType().getSimpleName(),
+                    signature.getName());
+        }
+
+        private boolean allows(String className, String simpleClassName, String methodName) {
+            return !disabledTargets.contains(simpleClassName)
+                    && !disabledTargets.contains(className)
+                    && !disabledTargets.contains(simpleClassName + "." + methodName)
+                    && !disabledTargets.contains(className + "." + methodName);
+        }
+    }
+}
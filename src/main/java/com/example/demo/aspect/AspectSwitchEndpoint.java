@@ -0,0 +1,57 @@
+package com.example.demo.aspect;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint ({@code /actuator/aspects}) for switching the logging
+ * aspects on and off at runtime.
+ */
+@Component
+@Endpoint(id = "aspects")
+public class AspectSwitchEndpoint {
+
+    @Autowired
+    private AspectSwitches aspectSwitches;
+
+    @ReadOperation
+    public Map<String, Object> aspects() {
+        return aspectSwitches.describe();
+    }
+
+    @ReadOperation
+    public Map<String, Object> aspect(@Selector String pointcut) {
+        return aspectSwitches.describe(pointcut);
+    }
+
+    /**
+     * Suspends ({@code enabled=false}) or resumes all pointcuts.
+     */
+    @WriteOperation
+    public Map<String, Object> configureAll(boolean enabled) {
+        aspectSwitches.setSuspended(!enabled);
+        return aspectSwitches.describe();
+    }
+
+    /**
+     * Switches a pointcut on or off, or with {@code target} only one class
+     * ({@code UserServiceImpl}) or method ({@code UserServiceImpl.getUserById}) in it.
+     */
+    @WriteOperation
+    public Map<String, Object> configure(@Selector String pointcut, boolean enabled, @Nullable String target) {
+        try {
+            aspectSwitches.setEnabled(pointcut, target, enabled);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+        return aspectSwitches.describe(pointcut);
+    }
+}
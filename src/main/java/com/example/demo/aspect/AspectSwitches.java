@@ -0,0 +1,83 @@
+package com.example.demo.aspect;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.config.AspectSwitchProperties;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Applies the configured {@link AspectSwitch} settings at startup and changes
+ * them at runtime.
+ */
+@Component
+public class AspectSwitches {
+
+    private static final Logger logger = LoggerFactory.getLogger(AspectSwitches.class);
+
+    @Autowired
+    private AspectSwitchProperties properties;
+
+    @PostConstruct
+    public void init() {
+        for (AspectSwitch aspectSwitch : AspectSwitch.values()) {
+            aspectSwitch.reset();
+        }
+        for (String rule : properties.getDisabled()) {
+            int separator = rule.indexOf(':');
+            if (separator < 0) {
+                setEnabled(rule.trim(), null, false);
+            } else {
+                setEnabled(rule.substring(0, separator).trim(), rule.substring(separator + 1).trim(), false);
+            }
+        }
+    }
+
+    /**
+     * Switches a pointcut, or one class or method within it, on or off.
+     *
+     * @throws IllegalArgumentException if there is no such pointcut
+     */
+    public void setEnabled(String pointcut, String target, boolean enabled) {
+        AspectSwitch aspectSwitch = AspectSwitch.find(pointcut);
+        if (aspectSwitch == null) {
+            throw new IllegalArgumentException("Unknown aspect pointcut '" + pointcut + "'");
+        }
+        if (target == null || target.isEmpty()) {
+            aspectSwitch.setEnabled(enabled);
+            logger.info("Aspect pointcut '{}' {}", pointcut, enabled ? "enabled" : "disabled");
+        } else {
+            aspectSwitch.setTargetEnabled(target, enabled);
+            logger.info("Aspect pointcut '{}' {} for {}", pointcut, enabled ? "enabled" : "disabled", target);
+        }
+    }
+
+    /**
+     * Suspends or resumes all pointcuts at once, keeping their individual settings.
+     */
+    public void setSuspended(boolean suspended) {
+        for (AspectSwitch aspectSwitch : AspectSwitch.values()) {
+            aspectSwitch.setSuspended(suspended);
+        }
+        logger.info("Aspects {}", suspended ? "suspended" : "resumed");
+    }
+
+    public Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        for (AspectSwitch aspectSwitch : AspectSwitch.values()) {
+            description.put(aspectSwitch.getId(), aspectSwitch.describe());
+        }
+        return description;
+    }
+
+    public Map<String, Object> describe(String pointcut) {
+        AspectSwitch aspectSwitch = AspectSwitch.find(pointcut);
+        return aspectSwitch != null ? aspectSwitch.describe() : null;
+    }
+}
@@ -13,6 +13,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import com.example.demo.jfr.CircuitBreakerFailureEvent;
+
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import jakarta.servlet.http.HttpServletRequest;
@@ -31,11 +33,20 @@ public class CircuitBreakerLoggingAspect {
     private CircuitBreakerRegistry circuitBreakerRegistry;
 
     @AfterThrowing(
-        pointcut = "@annotation(io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker) || " +
-                  "@within(io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker)",
+        pointcut = "(@annotation(io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker) || " +
+                  "@within(io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker)) && " +
+                  "execution(public * *(..))",
         throwing = "exception"
     )
     public void logCircuitBreakerFailure(JoinPoint joinPoint, Exception exception) {
+        if (!AspectSwitch.CIRCUIT_BREAKER.isActive(joinPoint)) {
+            return;
+        }
+        recordFailure(joinPoint, exception);
+        // Everything below only feeds debug output; skip the state checks and JSON otherwise
+        if (!logger.isDebugEnabled()) {
+            return;
+        }
         try {
             // Check if it's a CallNotPermittedException directly
             boolean isCircuitBreakerException = exception instanceof CallNotPermittedException;
@@ -107,6 +118,26 @@ public class CircuitBreakerLoggingAspect {
         }
     }
 
+    private static void recordFailure(JoinPoint joinPoint, Exception exception) {
+        CircuitBreakerFailureEvent event = new CircuitBreakerFailureEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker annotation =
+            signature.getMethod().getAnnotation(io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker.class);
+        if (annotation == null) {
+            annotation = signature.getMethod().getDeclaringClass()
+                .getAnnotation(io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker.class);
+        }
+        event.circuitBreaker = annotation != null ? annotation.name() : null;
+        event.type = signature.getDeclaringType().getSimpleName();
+        event.method = signature.getName();
+        event.exception = exception.getClass().getName();
+        event.rejected = exception instanceof CallNotPermittedException;
+        event.commit();
+    }
+
     private Map<String, Object> getMethodArguments(JoinPoint joinPoint) {
         Map<String, Object> args = new HashMap<>();
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
@@ -0,0 +1,42 @@
+package com.example.demo.aspect;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.fault.FaultInjector;
+
+/**
+ * Aspect applying configured faults to methods annotated with @InjectFault.
+ * Runs innermost, so the injected latency and failures are seen by the
+ * Resilience4j aspects exactly like a misbehaving downstream would be.
+ */
+@Aspect
+@Component
+@Order(FaultInjectionAspect.ORDER)
+public class FaultInjectionAspect {
+
+    /**
+     * Resilience4j orders its aspects from retry (LOWEST_PRECEDENCE - 5) to
+     * bulkhead (LOWEST_PRECEDENCE - 1, not configurable), so the lowest
+     * precedence is the only order strictly inside all of them; none of the
+     * resilience4j.*-aspect-order properties may be set to it.
+     */
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE;
+
+    @Autowired
+    private FaultInjector faultInjector;
+
+    /**
+     * Inject latency and/or a failure before the method executes
+     */
+    @Around("execution(public * *(..)) && @annotation(injectFault)")
+    public Object injectFault(ProceedingJoinPoint joinPoint, InjectFault injectFault) throws Throwable {
+        faultInjector.inject(injectFault.value());
+        return joinPoint.proceed();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.demo.aspect;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to mark methods that should have faults injected by the aspect.
+ * The faults themselves (latency, error rate, scenario) are configured per
+ * named target under {@code fault-injection.targets.<name>} or at runtime
+ * through the {@code faults} actuator endpoint.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface InjectFault {
+
+    /**
+     * Name of the fault injection target
+     */
+    String value();
+}
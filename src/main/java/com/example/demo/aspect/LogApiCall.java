@@ -32,4 +32,10 @@ public @interface LogApiCall {
      * Whether to log execution time
      */
     boolean logExecutionTime() default true;
+
+    /**
+     * Whether to log collection parameters and the response as a summary
+     * (sizes and counts) instead of element by element, for batch endpoints
+     */
+    boolean summarize() default false;
 }
@@ -10,6 +10,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import com.example.demo.jfr.BeanMethodEvent;
+import com.example.demo.util.LoggingUtils;
+
 import java.util.Arrays;
 
 /**
@@ -32,21 +35,43 @@ public class LoggingAspect {
     }
 
     /**
-     * Pointcut that matches all classes within the application.
+     * Pointcut that matches all top-level classes within the application. Nested,
+     * anonymous and synthetic types are never Spring beans, but {@code within()}
+     * would still match them lexically once the aspect is woven.
      */
-    @Pointcut("within(com.example.demo..*)")
+    @Pointcut("within(com.example.demo..*) && !within(is(InnerType)) && !within(is(AnonymousType))")
     public void applicationPackagePointcut() {
         // Method is empty as this is just a Pointcut
     }
 
+    /**
+     * Pointcut that matches public method executions. Spring AOP proxies only
+     * intercept these anyway; with compile-time weaving (aspectj profile) it
+     * keeps the advice off call sites, field access and private helpers.
+     */
+    @Pointcut("execution(public * *(..))")
+    public void publicMethodExecution() {
+        // Method is empty as this is just a Pointcut
+    }
+
     /**
      * Logs methods throwing exceptions.
      *
      * @param joinPoint join point for advice
      * @param e exception
      */
-    @AfterThrowing(pointcut = "applicationPackagePointcut() && springBeanPointcut()", throwing = "e")
+    @AfterThrowing(pointcut = "applicationPackagePointcut() && springBeanPointcut() && publicMethodExecution()",
+            throwing = "e")
     public void logAfterThrowing(JoinPoint joinPoint, Throwable e) {
+        if (!AspectSwitch.LOGGING.isActive(joinPoint)) {
+            return;
+        }
+        if (LoggingUtils.isExpected(e)) {
+            log.debug("{} in {}.{}(): {}", e.getClass().getSimpleName(),
+                    joinPoint.getSignature().getDeclaringTypeName(), joinPoint.getSignature().getName(),
+                    e.getMessage());
+            return;
+        }
         log.error("Exception in {}.{}() with cause = {}", joinPoint.getSignature().getDeclaringTypeName(),
                 joinPoint.getSignature().getName(), e.getCause() != null ? e.getCause() : "NULL");
     }
@@ -58,12 +83,17 @@ public class LoggingAspect {
      * @return result
      * @throws Throwable throws IllegalArgumentException
      */
-    @Around("applicationPackagePointcut() && springBeanPointcut()")
+    @Around("applicationPackagePointcut() && springBeanPointcut() && publicMethodExecution()")
     public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!AspectSwitch.LOGGING.isActive(joinPoint)) {
+            return joinPoint.proceed();
+        }
         if (log.isDebugEnabled()) {
             log.debug("Enter: {}.{}() with argument[s] = {}", joinPoint.getSignature().getDeclaringTypeName(),
-                    joinPoint.getSignature().getName(), Arrays.toString(joinPoint.getArgs()));
+                    joinPoint.getSignature().getName(), summarizeArgs(joinPoint.getArgs()));
         }
+        BeanMethodEvent event = startEvent();
+        Throwable failure = null;
         try {
             long start = System.currentTimeMillis();
             Object result = joinPoint.proceed();
@@ -71,7 +101,7 @@ public class LoggingAspect {
             
             if (log.isDebugEnabled()) {
                 log.debug("Exit: {}.{}() with result = {}", joinPoint.getSignature().getDeclaringTypeName(),
-                        joinPoint.getSignature().getName(), result);
+                        joinPoint.getSignature().getName(), LoggingUtils.summarize(result));
             }
             
             if (executionTime > 500) {
@@ -84,9 +114,40 @@ public class LoggingAspect {
             
             return result;
         } catch (IllegalArgumentException e) {
-            log.error("Illegal argument: {} in {}.{}()", Arrays.toString(joinPoint.getArgs()),
+            failure = e;
+            log.error("Illegal argument: {} in {}.{}()", summarizeArgs(joinPoint.getArgs()),
                     joinPoint.getSignature().getDeclaringTypeName(), joinPoint.getSignature().getName());
             throw e;
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            if (event != null) {
+                event.complete(joinPoint, failure);
+            }
+        }
+    }
+
+    /**
+     * Arguments for the log line, with large collections (batches) reduced to their size.
+     */
+    /**
+     * Begins a bean method event, or returns null while JFR is not recording it.
+     */
+    private static BeanMethodEvent startEvent() {
+        BeanMethodEvent event = new BeanMethodEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    private static String summarizeArgs(Object[] args) {
+        Object[] summarized = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            summarized[i] = LoggingUtils.summarize(args[i]);
         }
+        return Arrays.toString(summarized);
     }
 }
@@ -15,6 +15,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import com.example.demo.jfr.ApiCallEvent;
 import com.example.demo.util.LoggingUtils;
 
 import java.lang.annotation.Annotation;
@@ -22,9 +23,15 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Aspect for logging API calls using the @LogApiCall annotation.
+ * Advice is declared in AspectJ precedence order (after-returning, around,
+ * before) so a woven build nests it the same way Spring AOP does.
+ * For async handlers returning a CompletionStage, the response and timing are
+ * logged when the stage completes rather than when the method returns.
  */
 @Aspect
 @Component
@@ -49,54 +56,23 @@ public class UserControllerAspect {
     }
     
     /**
-     * Combined pointcut for both method and class level annotations
+     * Combined pointcut for both method and class level annotations, limited to
+     * public method executions so compile-time weaving advises the same join
+     * points as the Spring proxy
      */
-    @Pointcut("logApiCallMethods() || logApiCallClasses()")
+    @Pointcut("(logApiCallMethods() || logApiCallClasses()) && execution(public * *(..))")
     public void logApiCall() {
         // Method is empty as this is just a Pointcut
     }
 
-    /**
-     * Log method parameters before method execution
-     */
-    @Before("logApiCall()")
-    public void logMethodParams(JoinPoint joinPoint) {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        
-        // Check if we should log parameters
-        LogApiCall logApiCall = getLogApiCallAnnotation(method, joinPoint);
-        if (logApiCall != null && !logApiCall.logParams()) {
-            return;
-        }
-        
-        // Extract method description
-        String description = "";
-        if (logApiCall != null && !logApiCall.value().isEmpty()) {
-            description = " - " + logApiCall.value();
-        }
-        
-        // Extract method parameters
-        Map<String, Object> parameters = extractMethodParameters(joinPoint, method);
-        
-        // Mask sensitive data
-        Map<String, Object> maskedParams = new HashMap<>();
-        for (Map.Entry<String, Object> entry : parameters.entrySet()) {
-            maskedParams.put(entry.getKey(), LoggingUtils.maskSensitiveData(entry.getValue()));
-        }
-        
-        log.info("⬇️ [REST API CALL] {}.{}(){}  with parameters: {}", 
-                joinPoint.getSignature().getDeclaringType().getSimpleName(), 
-                method.getName(),
-                description,
-                maskedParams);
-    }
-
     /**
      * Log method return values after method execution
      */
     @AfterReturning(pointcut = "logApiCall()", returning = "result")
     public void logMethodReturn(JoinPoint joinPoint, Object result) {
+        if (!AspectSwitch.API_CALLS.isActive(joinPoint)) {
+            return;
+        }
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
         Method method = signature.getMethod();
         
@@ -106,18 +82,26 @@ public class UserControllerAspect {
             return;
         }
         
+        if (result instanceof CompletionStage<?> stage) {
+            stage.thenAccept(value -> logResponse(joinPoint, logApiCall, value));
+        } else {
+            logResponse(joinPoint, logApiCall, result);
+        }
+    }
+    
+    private void logResponse(JoinPoint joinPoint, LogApiCall logApiCall, Object result) {
         if (result instanceof ResponseEntity) {
             ResponseEntity<?> responseEntity = (ResponseEntity<?>) result;
             log.info("⬆️ [REST API RESPONSE] {}.{}() returned: status={}, body={}", 
                     joinPoint.getSignature().getDeclaringType().getSimpleName(),
                     joinPoint.getSignature().getName(), 
                     responseEntity.getStatusCode(),
-                    LoggingUtils.maskSensitiveData(responseEntity.getBody()));
+                    loggableResponse(logApiCall, responseEntity.getBody()));
         } else {
             log.info("⬆️ [REST API RESPONSE] {}.{}() returned: {}", 
                     joinPoint.getSignature().getDeclaringType().getSimpleName(),
                     joinPoint.getSignature().getName(), 
-                    LoggingUtils.maskSensitiveData(result));
+                    loggableResponse(logApiCall, result));
         }
     }
     
@@ -126,6 +110,9 @@ public class UserControllerAspect {
      */
     @Around("logApiCall()")
     public Object logExecutionTime(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!AspectSwitch.API_CALLS.isActive(joinPoint)) {
+            return joinPoint.proceed();
+        }
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
         Method method = signature.getMethod();
         
@@ -136,27 +123,129 @@ public class UserControllerAspect {
         }
         
         long startTime = System.currentTimeMillis();
+        ApiCallEvent event = startEvent();
         
         try {
             Object result = joinPoint.proceed();
-            long endTime = System.currentTimeMillis();
-            long duration = endTime - startTime;
             
-            log.info("⏱️ [REST API TIMING] {}.{}() executed in {} ms", 
-                    joinPoint.getSignature().getDeclaringType().getSimpleName(),
-                    joinPoint.getSignature().getName(), 
-                    duration);
+            // Async handlers free the request thread here; time them to completion
+            if (result instanceof CompletionStage<?> stage) {
+                stage.whenComplete((value, error) -> {
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error;
+                        complete(event, joinPoint, null, cause);
+                        logError(joinPoint, cause);
+                    } else {
+                        complete(event, joinPoint, value, null);
+                        logTiming(joinPoint, System.currentTimeMillis() - startTime);
+                    }
+                });
+                return result;
+            }
             
+            complete(event, joinPoint, result, null);
+            logTiming(joinPoint, System.currentTimeMillis() - startTime);
             return result;
         } catch (Exception e) {
-            log.error("❌ [REST API ERROR] {}.{}() threw exception: {}", 
-                    joinPoint.getSignature().getDeclaringType().getSimpleName(),
-                    joinPoint.getSignature().getName(), 
-                    e.getMessage());
+            complete(event, joinPoint, null, e);
+            logError(joinPoint, e);
             throw e;
         }
     }
     
+    /**
+     * Begins an API call event, or returns null while JFR is not recording it.
+     */
+    private static ApiCallEvent startEvent() {
+        ApiCallEvent event = new ApiCallEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    private static void complete(ApiCallEvent event, JoinPoint joinPoint, Object result, Throwable failure) {
+        if (event != null) {
+            event.complete(joinPoint, result, failure);
+        }
+    }
+
+    private void logTiming(JoinPoint joinPoint, long duration) {
+        log.info("⏱️ [REST API TIMING] {}.{}() executed in {} ms", 
+                joinPoint.getSignature().getDeclaringType().getSimpleName(),
+                joinPoint.getSignature().getName(), 
+                duration);
+    }
+    
+    private void logError(JoinPoint joinPoint, Throwable e) {
+        if (LoggingUtils.isExpected(e)) {
+            log.debug("[REST API] {}.{}() ended with {}: {}",
+                    joinPoint.getSignature().getDeclaringType().getSimpleName(),
+                    joinPoint.getSignature().getName(),
+                    e.getClass().getSimpleName(), e.getMessage());
+            return;
+        }
+        log.error("❌ [REST API ERROR] {}.{}() threw exception: {}", 
+                joinPoint.getSignature().getDeclaringType().getSimpleName(),
+                joinPoint.getSignature().getName(), 
+                e.getMessage());
+    }
+    
+    /**
+     * Log method parameters before method execution
+     */
+    @Before("logApiCall()")
+    public void logMethodParams(JoinPoint joinPoint) {
+        if (!AspectSwitch.API_CALLS.isActive(joinPoint)) {
+            return;
+        }
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Method method = signature.getMethod();
+        
+        // Check if we should log parameters
+        LogApiCall logApiCall = getLogApiCallAnnotation(method, joinPoint);
+        if (logApiCall != null && !logApiCall.logParams()) {
+            return;
+        }
+        
+        // Extract method description
+        String description = "";
+        if (logApiCall != null && !logApiCall.value().isEmpty()) {
+            description = " - " + logApiCall.value();
+        }
+        
+        // Extract method parameters
+        Map<String, Object> parameters = extractMethodParameters(joinPoint, method);
+        
+        // Mask sensitive data
+        Map<String, Object> maskedParams = new HashMap<>();
+        for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+            Object value = entry.getValue();
+            Object summary = logApiCall != null && logApiCall.summarize()
+                    ? LoggingUtils.summarize(value, 0) : value;
+            maskedParams.put(entry.getKey(), summary != value ? summary : LoggingUtils.maskSensitiveData(value));
+        }
+        
+        log.info("⬇️ [REST API CALL] {}.{}(){}  with parameters: {}", 
+                joinPoint.getSignature().getDeclaringType().getSimpleName(), 
+                method.getName(),
+                description,
+                maskedParams);
+    }
+    
+    /**
+     * Response for the log line; summarized responses rely on the body's own
+     * toString, which batch results keep down to their counts
+     */
+    private Object loggableResponse(LogApiCall logApiCall, Object body) {
+        if (logApiCall != null && logApiCall.summarize()) {
+            return String.valueOf(LoggingUtils.summarize(body, 0));
+        }
+        return LoggingUtils.maskSensitiveData(body);
+    }
+    
     /**
      * Helper method to extract method parameters with annotations
      */
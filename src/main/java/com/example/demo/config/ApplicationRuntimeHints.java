@@ -0,0 +1,63 @@
+package com.example.demo.config;
+
+import java.util.List;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import com.example.demo.aspect.CircuitBreakerLoggingAspect;
+import com.example.demo.aspect.FaultInjectionAspect;
+import com.example.demo.aspect.InjectFault;
+import com.example.demo.aspect.LogApiCall;
+import com.example.demo.aspect.LogSensitive;
+import com.example.demo.aspect.LoggingAspect;
+import com.example.demo.aspect.UserControllerAspect;
+import com.example.demo.dto.UserDto;
+import com.example.demo.dto.UserListVersion;
+import com.example.demo.dto.UserSummary;
+import com.example.demo.exception.ErrorDetails;
+import com.example.demo.model.User;
+import com.example.demo.service.impl.ResilienceExampleService;
+
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import io.github.resilience4j.retry.annotation.Retry;
+import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
+
+/**
+ * Reflection the application does that Spring AOT cannot see on its own,
+ * needed for AOT-processed and native builds.
+ */
+public class ApplicationRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // LoggingUtils.maskSensitiveData reads the fields of logged objects and their @LogSensitive settings
+        for (Class<?> type : List.of(UserDto.class, UserSummary.class, User.class, ErrorDetails.class)) {
+            hints.reflection().registerType(type, MemberCategory.DECLARED_FIELDS);
+        }
+
+        // JPQL constructor expressions create the projections reflectively
+        for (Class<?> projection : List.of(UserSummary.class, UserListVersion.class)) {
+            hints.reflection().registerType(projection, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        }
+
+        // advice methods are invoked reflectively and their annotations read at runtime
+        for (Class<?> aspect : List.of(LoggingAspect.class, UserControllerAspect.class,
+                CircuitBreakerLoggingAspect.class, FaultInjectionAspect.class)) {
+            hints.reflection().registerType(aspect, MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+        for (Class<?> annotation : List.of(LogApiCall.class, LogSensitive.class, InjectFault.class,
+                CircuitBreaker.class, Retry.class, RateLimiter.class, Bulkhead.class, TimeLimiter.class)) {
+            hints.reflection().registerType(annotation, MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+
+        // Resilience4j looks up fallback methods by name
+        hints.reflection().registerType(ResilienceExampleService.class, MemberCategory.INVOKE_DECLARED_METHODS);
+
+        // FaultInjector instantiates the configured exception type through its String constructor
+        hints.reflection().registerType(RuntimeException.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    }
+}
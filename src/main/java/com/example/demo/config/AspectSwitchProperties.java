@@ -0,0 +1,25 @@
+package com.example.demo.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Aspect switches applied at startup, bound from {@code aspects.*}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "aspects")
+public class AspectSwitchProperties {
+
+    /**
+     * Pointcuts, classes or methods to start switched off, as {@code pointcut},
+     * {@code pointcut:Class} or {@code pointcut:Class.method}
+     * (e.g. {@code api-calls:UserController.getAllUsers}).
+     */
+    private List<String> disabled = new ArrayList<>();
+}
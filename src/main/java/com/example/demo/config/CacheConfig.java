@@ -0,0 +1,19 @@
+package com.example.demo.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the Spring cache abstraction. The user cache is a bounded Caffeine
+ * cache configured through {@code spring.cache.*}; its hit, miss and eviction
+ * counts are published as {@code cache.*} metrics.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * UserDto by id, read through by UserServiceImpl.getUserById.
+     */
+    public static final String USERS_CACHE = "users";
+}
@@ -1,5 +1,7 @@
 package com.example.demo.config;
 
+import com.example.demo.jfr.CircuitBreakerRejectionEvent;
+import com.example.demo.jfr.CircuitBreakerStateEvent;
 import com.example.demo.service.EmailService;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
@@ -28,6 +30,11 @@ public class CircuitBreakerConfig {
         // Add listeners for all circuit breaker events
         userServiceCircuitBreaker.getEventPublisher()
             .onCallNotPermitted(event -> {
+                CircuitBreakerRejectionEvent rejection = new CircuitBreakerRejectionEvent();
+                if (rejection.isEnabled()) {
+                    rejection.circuitBreaker = event.getCircuitBreakerName();
+                    rejection.commit();
+                }
                 logger.debug("Call not permitted for circuit breaker '{}' - Request rejected", 
                     event.getCircuitBreakerName());
             })
@@ -53,8 +60,21 @@ public class CircuitBreakerConfig {
                 CircuitBreaker.State newState = event.getStateTransition().getToState();
                 String serviceName = event.getCircuitBreakerName();
 
+                CircuitBreakerStateEvent transition = new CircuitBreakerStateEvent();
+                if (transition.isEnabled()) {
+                    transition.circuitBreaker = serviceName;
+                    transition.fromState = event.getStateTransition().getFromState().name();
+                    transition.toState = newState.name();
+                    transition.commit();
+                }
+
                 logger.info("Circuit breaker '{}' transitioned to state: {}", serviceName, newState);
 
+                // Leaving DISABLED (startup warm-up, restored state) is not news.
+                if (event.getStateTransition().getFromState() == CircuitBreaker.State.DISABLED) {
+                    return;
+                }
+
                 switch (newState) {
                     case OPEN:
                         emailService.sendCircuitBreakerNotification(
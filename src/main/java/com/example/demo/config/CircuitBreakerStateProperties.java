@@ -0,0 +1,44 @@
+package com.example.demo.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Circuit breaker persistence settings bound from {@code circuit-breaker.state.*}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "circuit-breaker.state")
+public class CircuitBreakerStateProperties {
+
+    /**
+     * Save breaker state to {@link #file} and restore it on startup.
+     */
+    private boolean enabled;
+
+    /**
+     * Memory-mapped state file, required when enabled. Every instance needs its
+     * own path, ideally on a volume that outlives it.
+     */
+    private Path file;
+
+    /**
+     * How often the state is written, in addition to every transition and shutdown.
+     */
+    private Duration writeInterval = Duration.ofSeconds(5);
+
+    /**
+     * Open, half-open and forced-open states older than this are not restored.
+     */
+    private Duration openMaxAge = Duration.ofMinutes(10);
+
+    /**
+     * Sliding window counts of closed breakers older than this are not restored.
+     */
+    private Duration windowMaxAge = Duration.ofMinutes(1);
+}
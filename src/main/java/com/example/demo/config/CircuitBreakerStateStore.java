@@ -0,0 +1,329 @@
+package com.example.demo.config;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.registry.EntryAddedEvent;
+
+/**
+ * Keeps circuit breaker state across restarts, so an instance started during
+ * a downstream outage begins with the breaker already open instead of
+ * relearning it from failed calls. The state, open-until time and sliding
+ * window counts of every breaker are written to a memory-mapped file on each
+ * transition, every {@code circuit-breaker.state.write-interval} and on
+ * shutdown, and restored once all beans exist, before the web server starts
+ * accepting connections. Each instance needs a file of its own.
+ * <p>
+ * File layout: magic, body length, CRC32 of the body and write time, then per
+ * breaker its name, state, open-until (epoch millis) and successful, failed,
+ * slow successful and slow failed call counts. A torn or foreign file fails
+ * the checks and is ignored.
+ */
+@Component
+public class CircuitBreakerStateStore implements SmartInitializingSingleton, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreakerStateStore.class);
+
+    private static final int MAGIC = 0x43425331; // "CBS1"
+
+    private static final int HEADER_SIZE = 24;
+
+    private static final int INITIAL_SIZE = 4096;
+
+    @Autowired
+    private CircuitBreakerStateProperties properties;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    private final Map<String, Instant> openUntil = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService executor;
+
+    private FileChannel channel;
+
+    private MappedByteBuffer mapped;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (properties.getFile() == null) {
+            throw new IllegalStateException("circuit-breaker.state.enabled=true requires circuit-breaker.state.file, "
+                    + "a path no other instance writes to");
+        }
+        restore();
+
+        circuitBreakerRegistry.getAllCircuitBreakers().forEach(this::watch);
+        circuitBreakerRegistry.getEventPublisher().onEntryAdded((EntryAddedEvent<CircuitBreaker> event) ->
+                watch(event.getAddedEntry()));
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "circuit-breaker-state");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getWriteInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::save, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdownNow();
+        save();
+        synchronized (this) {
+            if (mapped != null) {
+                mapped.force();
+            }
+            closeChannel();
+        }
+    }
+
+    private void watch(CircuitBreaker circuitBreaker) {
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            if (event.getStateTransition().getToState() == CircuitBreaker.State.OPEN) {
+                long waitMillis = circuitBreaker.getCircuitBreakerConfig()
+                        .getWaitIntervalFunctionInOpenState().apply(1);
+                openUntil.put(circuitBreaker.getName(), event.getCreationTime().toInstant().plusMillis(waitMillis));
+            }
+            ScheduledExecutorService current = executor;
+            if (current != null && !current.isShutdown()) {
+                current.execute(this::save);
+            }
+        });
+    }
+
+    /**
+     * Writes the current state of every breaker to the mapped file.
+     */
+    synchronized void save() {
+        try {
+            ByteBuffer body = encode();
+            int required = HEADER_SIZE + body.remaining();
+            if (mapped == null || mapped.capacity() < required) {
+                remap(Math.max(INITIAL_SIZE, Integer.highestOneBit(required - 1) << 1));
+            }
+            CRC32 crc = new CRC32();
+            crc.update(body.duplicate());
+            // Invalidate the header first so a reader never pairs it with a half-written body.
+            mapped.putInt(0, 0);
+            mapped.put(HEADER_SIZE, body, 0, body.remaining());
+            mapped.putLong(8, crc.getValue());
+            mapped.putLong(16, System.currentTimeMillis());
+            mapped.putInt(4, body.remaining());
+            mapped.putInt(0, MAGIC);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not save circuit breaker state to {}: {}", properties.getFile(), e.toString());
+        }
+    }
+
+    private ByteBuffer encode() {
+        ByteBuffer body = ByteBuffer.allocate(1024);
+        for (CircuitBreaker circuitBreaker : circuitBreakerRegistry.getAllCircuitBreakers()) {
+            byte[] name = circuitBreaker.getName().getBytes(StandardCharsets.UTF_8);
+            if (body.remaining() < 2 + name.length + 1 + 8 + 16) {
+                body = ByteBuffer.allocate(body.capacity() * 2 + name.length).put(body.flip());
+            }
+            CircuitBreaker.State state = circuitBreaker.getState();
+            WindowCounts window = WindowCounts.of(circuitBreaker);
+            Instant until = state == CircuitBreaker.State.OPEN ? openUntil.get(circuitBreaker.getName()) : null;
+            body.putShort((short) name.length).put(name)
+                    .put((byte) state.getOrder())
+                    .putLong(until != null ? until.toEpochMilli() : 0L)
+                    .putInt(window.successful())
+                    .putInt(window.failed())
+                    .putInt(window.slowSuccessful())
+                    .putInt(window.slowFailed());
+        }
+        return body.flip();
+    }
+
+    private void remap(int size) throws IOException {
+        if (channel == null) {
+            Path file = properties.getFile();
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+        }
+        mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    private void restore() {
+        Path file = properties.getFile();
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (in.size() < HEADER_SIZE) {
+                return;
+            }
+            MappedByteBuffer buffer = in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+            int length = buffer.getInt(4);
+            if (buffer.getInt(0) != MAGIC || length < 0 || length > in.size() - HEADER_SIZE) {
+                logger.warn("Ignoring circuit breaker state in {}: not a complete state file", file);
+                return;
+            }
+            ByteBuffer body = buffer.slice(HEADER_SIZE, length);
+            CRC32 crc = new CRC32();
+            crc.update(body.duplicate());
+            if (crc.getValue() != buffer.getLong(8)) {
+                logger.warn("Ignoring circuit breaker state in {}: checksum mismatch", file);
+                return;
+            }
+            Duration age = Duration.ofMillis(Math.max(0, System.currentTimeMillis() - buffer.getLong(16)));
+            while (body.hasRemaining()) {
+                byte[] name = new byte[body.getShort()];
+                body.get(name);
+                CircuitBreaker.State state = state(body.get());
+                long until = body.getLong();
+                WindowCounts window = new WindowCounts(body.getInt(), body.getInt(), body.getInt(), body.getInt());
+                restore(new String(name, StandardCharsets.UTF_8), state, age, until, window);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not restore circuit breaker state from {}: {}", file, e.toString());
+        }
+    }
+
+    private void restore(String name, CircuitBreaker.State state, Duration age, long until, WindowCounts window) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.find(name).orElse(null);
+        if (circuitBreaker == null || circuitBreaker.getState() != CircuitBreaker.State.CLOSED) {
+            return;
+        }
+        switch (state) {
+            case OPEN, HALF_OPEN, FORCED_OPEN -> {
+                if (age.compareTo(properties.getOpenMaxAge()) > 0) {
+                    return;
+                }
+                // Going through DISABLED marks the transitions as bookkeeping, not as a new outage.
+                circuitBreaker.transitionToDisabledState();
+                if (state == CircuitBreaker.State.FORCED_OPEN) {
+                    circuitBreaker.transitionToForcedOpenState();
+                } else if (state == CircuitBreaker.State.OPEN && until > System.currentTimeMillis()) {
+                    Instant retryAt = Instant.ofEpochMilli(until);
+                    openUntil.put(name, retryAt);
+                    circuitBreaker.transitionToOpenStateUntil(retryAt);
+                } else {
+                    // A half-open breaker, or an open one whose wait has passed, goes straight to probing.
+                    circuitBreaker.transitionToHalfOpenState();
+                }
+                logger.info("Restored circuit breaker '{}' as {} from a snapshot taken {} ago",
+                        name, circuitBreaker.getState(), age);
+            }
+            case CLOSED -> {
+                if (age.compareTo(properties.getWindowMaxAge()) > 0) {
+                    return;
+                }
+                replay(circuitBreaker, window);
+            }
+            default -> {
+                // DISABLED and METRICS_ONLY are transient here (e.g. the startup warm-up), not worth keeping.
+            }
+        }
+    }
+
+    private static CircuitBreaker.State state(int order) {
+        for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+            if (state.getOrder() == order) {
+                return state;
+            }
+        }
+        throw new IllegalStateException("Unknown circuit breaker state " + order);
+    }
+
+    /**
+     * Refills the sliding window of a closed breaker. Successes go first, so
+     * the failure rate only climbs towards its saved value and the replay
+     * cannot open a breaker that was closed when it was saved.
+     */
+    static void replay(CircuitBreaker circuitBreaker, WindowCounts window) {
+        long slowNanos = circuitBreaker.getCircuitBreakerConfig().getSlowCallDurationThreshold().toNanos() + 1;
+        RestoredFailure failure = new RestoredFailure();
+        for (int i = 0; i < window.successful(); i++) {
+            circuitBreaker.onSuccess(0, TimeUnit.NANOSECONDS);
+        }
+        for (int i = 0; i < window.slowSuccessful(); i++) {
+            circuitBreaker.onSuccess(slowNanos, TimeUnit.NANOSECONDS);
+        }
+        for (int i = 0; i < window.failed(); i++) {
+            circuitBreaker.onError(0, TimeUnit.NANOSECONDS, failure);
+        }
+        for (int i = 0; i < window.slowFailed(); i++) {
+            circuitBreaker.onError(slowNanos, TimeUnit.NANOSECONDS, failure);
+        }
+        if (window.total() > 0) {
+            logger.info("Restored {} calls into the window of circuit breaker '{}'",
+                    window.total(), circuitBreaker.getName());
+        }
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.debug("Could not close {}: {}", properties.getFile(), e.toString());
+            }
+            channel = null;
+            mapped = null;
+        }
+    }
+
+    /**
+     * Calls in a breaker's sliding window; the successful and failed counts
+     * exclude the slow ones.
+     */
+    record WindowCounts(int successful, int failed, int slowSuccessful, int slowFailed) {
+
+        static WindowCounts of(CircuitBreaker circuitBreaker) {
+            CircuitBreaker.Metrics metrics = circuitBreaker.getMetrics();
+            return new WindowCounts(
+                    metrics.getNumberOfSuccessfulCalls() - metrics.getNumberOfSlowSuccessfulCalls(),
+                    metrics.getNumberOfFailedCalls() - metrics.getNumberOfSlowFailedCalls(),
+                    metrics.getNumberOfSlowSuccessfulCalls(),
+                    metrics.getNumberOfSlowFailedCalls());
+        }
+
+        int total() {
+            return successful + failed + slowSuccessful + slowFailed;
+        }
+    }
+
+    /**
+     * Stands in for a failure recorded before the restart.
+     */
+    private static final class RestoredFailure extends RuntimeException {
+
+        RestoredFailure() {
+            super("Failure restored from a previous run", null, false, false);
+        }
+    }
+}
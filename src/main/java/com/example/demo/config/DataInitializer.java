@@ -1,21 +1,36 @@
 package com.example.demo.config;
 
+import java.util.List;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import com.example.demo.model.User;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.service.PasswordHasher;
 
 @Component
+@Order(Ordered.LOWEST_PRECEDENCE - 100)
 public class DataInitializer implements CommandLineRunner {
 
     private static final Logger logger = LoggerFactory.getLogger(DataInitializer.class);
     
     @Autowired
     private UserRepository userRepository;
+
+    @Autowired
+    private DataSeedProperties dataSeedProperties;
+
+    @Autowired
+    private UserDataSeeder userDataSeeder;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
     
     @Override
     public void run(String... args) throws Exception {
@@ -23,13 +38,16 @@ public class DataInitializer implements CommandLineRunner {
         
         // Check if we already have users to avoid duplicates on restart
         long count = userRepository.count();
-        if (count == 0) {
+        if (count == 0 && dataSeedProperties.getUsers() > 0) {
+            userDataSeeder.seed();
+        } else if (count == 0) {
             logger.debug("No users found in the database. Creating sample users.");
             
             // Add some sample users
-            User user1 = new User(null, "John", "Doe", "john.doe@example.com", 30, "password123");
-            User user2 = new User(null, "Jane", "Smith", "jane.smith@example.com", 25, "securepass");
-            User user3 = new User(null, "Michael", "Johnson", "michael.johnson@example.com", 35, "mypassword");
+            List<String> passwords = passwordHasher.hashAll(List.of("password123", "securepass", "mypassword"));
+            User user1 = new User(null, "John", "Doe", "john.doe@example.com", 30, passwords.get(0));
+            User user2 = new User(null, "Jane", "Smith", "jane.smith@example.com", 25, passwords.get(1));
+            User user3 = new User(null, "Michael", "Johnson", "michael.johnson@example.com", 35, passwords.get(2));
             
             userRepository.save(user1);
             logger.debug("Created user: {}", user1.getFirstName());
@@ -0,0 +1,55 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Synthetic user data settings bound from {@code data.seed.*}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "data.seed")
+public class DataSeedProperties {
+
+    /**
+     * Number of users to generate into an empty table; 0 keeps the three sample users.
+     */
+    private long users;
+
+    /**
+     * Seed for the generated values; the same seed gives the same rows for any thread count.
+     */
+    private long seed = 42L;
+
+    /**
+     * Rows per JDBC batch.
+     */
+    private int batchSize = 1_000;
+
+    /**
+     * Rows per parallel chunk; each chunk gets its own random sequence.
+     */
+    private int chunkSize = 100_000;
+
+    /**
+     * Loader threads; keep at or below the connection pool size.
+     */
+    private int threads = Math.min(Runtime.getRuntime().availableProcessors(), 8);
+
+    /**
+     * Ages follow a normal distribution clamped to [minAge, maxAge].
+     */
+    private double ageMean = 38;
+    private double ageStdDev = 12;
+    private int minAge = 18;
+    private int maxAge = 90;
+
+    /**
+     * Skew of the first and last name popularity (Zipf exponent, 0 is uniform).
+     */
+    private double nameSkew = 1.0;
+
+    private int passwordLength = 12;
+}
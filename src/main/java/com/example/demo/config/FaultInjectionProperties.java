@@ -0,0 +1,109 @@
+package com.example.demo.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.example.demo.fault.FaultScenario;
+import com.example.demo.fault.LatencyDistribution;
+
+import lombok.Data;
+
+/**
+ * Fault injection settings bound from {@code fault-injection.*}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "fault-injection")
+public class FaultInjectionProperties {
+
+    /**
+     * Master switch; when false no target injects anything.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Base seed; each target derives its own random sequence from it.
+     */
+    private long seed = 42L;
+
+    private Map<String, Target> targets = new LinkedHashMap<>();
+
+    /**
+     * Exception types a target may throw. The actuator endpoint is writable,
+     * so it must not be able to instantiate arbitrary classes.
+     */
+    private Set<String> allowedExceptions = new LinkedHashSet<>(List.of(
+            RuntimeException.class.getName(),
+            IllegalStateException.class.getName(),
+            DataAccessResourceFailureException.class.getName(),
+            ResourceAccessException.class.getName()));
+
+    @Data
+    public static class Target {
+
+        /**
+         * Probability (0..1) that a call fails while the target is healthy.
+         */
+        private double errorRate;
+
+        /**
+         * Runtime exception type thrown for injected failures; needs a String
+         * constructor and must be listed in {@code allowed-exceptions}.
+         */
+        private String exception = RuntimeException.class.getName();
+
+        private String message = "Injected fault";
+
+        private LatencyDistribution latency = LatencyDistribution.NONE;
+        private Duration latencyMean = Duration.ZERO;
+        private Duration latencyStdDev = Duration.ZERO;
+        private Duration latencyMin = Duration.ZERO;
+
+        /**
+         * Upper bound for UNIFORM, cap for every other distribution (zero means uncapped).
+         */
+        private Duration latencyMax = Duration.ZERO;
+
+        private FaultScenario scenario = FaultScenario.STEADY;
+
+        /**
+         * Length of one degraded/healthy cycle for BROWNOUT and FLAPPING.
+         */
+        private Duration period = Duration.ofSeconds(30);
+
+        /**
+         * Fraction (0..1) of each period spent degraded.
+         */
+        private double degradedFraction = 0.5;
+
+        private double brownoutErrorRate = 0.5;
+        private double brownoutLatencyFactor = 5.0;
+
+        public Target copy() {
+            Target copy = new Target();
+            copy.setErrorRate(errorRate);
+            copy.setException(exception);
+            copy.setMessage(message);
+            copy.setLatency(latency);
+            copy.setLatencyMean(latencyMean);
+            copy.setLatencyStdDev(latencyStdDev);
+            copy.setLatencyMin(latencyMin);
+            copy.setLatencyMax(latencyMax);
+            copy.setScenario(scenario);
+            copy.setPeriod(period);
+            copy.setDegradedFraction(degradedFraction);
+            copy.setBrownoutErrorRate(brownoutErrorRate);
+            copy.setBrownoutLatencyFactor(brownoutLatencyFactor);
+            return copy;
+        }
+    }
+}
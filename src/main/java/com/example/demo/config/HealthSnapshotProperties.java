@@ -0,0 +1,37 @@
+package com.example.demo.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Background health evaluation settings bound from {@code health.snapshot.*}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "health.snapshot")
+public class HealthSnapshotProperties {
+
+    /**
+     * Whether health indicators are evaluated in the background and served from snapshots.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Delay between the end of one evaluation of an indicator and the start of the next.
+     */
+    private Duration refreshInterval = Duration.ofSeconds(10);
+
+    /**
+     * Snapshots older than this report DOWN, e.g. when a check hangs.
+     */
+    private Duration maxStaleness = Duration.ofSeconds(30);
+
+    /**
+     * Threads evaluating indicators; a hanging check holds one of them.
+     */
+    private int threads = 2;
+}
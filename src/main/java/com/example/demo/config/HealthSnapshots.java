@@ -0,0 +1,172 @@
+package com.example.demo.config;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.availability.AvailabilityStateHealthIndicator;
+import org.springframework.boot.actuate.health.CompositeHealthContributor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthContributor;
+import org.springframework.boot.actuate.health.HealthContributorRegistry;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.NamedContributor;
+import org.springframework.boot.actuate.health.PingHealthIndicator;
+import org.springframework.stereotype.Component;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.registry.EntryAddedEvent;
+
+/**
+ * Serves health from snapshots instead of evaluating every indicator on every
+ * probe. Once all beans exist, the registered contributors are replaced by
+ * {@link SnapshotHealthIndicator}s that return the last result with a single
+ * volatile read, while a small pool re-evaluates each delegate every
+ * {@code health.snapshot.refresh-interval}. Indicators that only read memory
+ * (ping, liveness and readiness state) are left as they are.
+ * <p>
+ * The circuit breaker snapshot is also refreshed on every breaker state
+ * transition, so health follows the breakers without waiting for the next
+ * round.
+ */
+@Component
+public class HealthSnapshots implements SmartInitializingSingleton, DisposableBean {
+
+    public static final String CIRCUIT_BREAKERS = "circuitBreakers";
+
+    private static final Logger logger = LoggerFactory.getLogger(HealthSnapshots.class);
+
+    @Autowired
+    private HealthSnapshotProperties properties;
+
+    @Autowired
+    private HealthContributorRegistry healthContributorRegistry;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    private final Map<String, SnapshotHealthIndicator> snapshots = new LinkedHashMap<>();
+
+    private ScheduledExecutorService executor;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        List<NamedContributor<HealthContributor>> contributors = new ArrayList<>();
+        healthContributorRegistry.forEach(contributors::add);
+        for (NamedContributor<HealthContributor> contributor : contributors) {
+            HealthContributor replacement = wrap(contributor.getName(), contributor.getContributor());
+            if (replacement != contributor.getContributor()) {
+                healthContributorRegistry.unregisterContributor(contributor.getName());
+                healthContributorRegistry.registerContributor(contributor.getName(), replacement);
+            }
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newScheduledThreadPool(properties.getThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "health-snapshot-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getRefreshInterval().toMillis();
+        snapshots.values().forEach(snapshot ->
+                executor.scheduleWithFixedDelay(snapshot::refresh, 0, interval, TimeUnit.MILLISECONDS));
+
+        SnapshotHealthIndicator circuitBreakers = snapshots.get(CIRCUIT_BREAKERS);
+        if (circuitBreakers != null) {
+            circuitBreakerRegistry.getAllCircuitBreakers()
+                    .forEach(circuitBreaker -> refreshOnTransition(circuitBreaker, circuitBreakers));
+            circuitBreakerRegistry.getEventPublisher().onEntryAdded((EntryAddedEvent<CircuitBreaker> event) ->
+                    refreshOnTransition(event.getAddedEntry(), circuitBreakers));
+        }
+        logger.info("Serving health from snapshots refreshed every {} ms: {}", interval, snapshots.keySet());
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void refreshOnTransition(CircuitBreaker circuitBreaker, SnapshotHealthIndicator snapshot) {
+        circuitBreaker.getEventPublisher().onStateTransition(event -> snapshot.refresh());
+    }
+
+    private HealthContributor wrap(String name, HealthContributor contributor) {
+        if (contributor instanceof PingHealthIndicator || contributor instanceof AvailabilityStateHealthIndicator) {
+            return contributor;
+        }
+        if (contributor instanceof HealthIndicator indicator) {
+            SnapshotHealthIndicator snapshot = new SnapshotHealthIndicator(indicator, properties.getMaxStaleness().toNanos());
+            snapshots.put(name, snapshot);
+            return snapshot;
+        }
+        if (contributor instanceof CompositeHealthContributor composite) {
+            Map<String, HealthContributor> children = new LinkedHashMap<>();
+            for (NamedContributor<HealthContributor> child : composite) {
+                children.put(child.getName(), wrap(name + "/" + child.getName(), child.getContributor()));
+            }
+            return CompositeHealthContributor.fromMap(children);
+        }
+        return contributor;
+    }
+
+    /**
+     * Health indicator answering from the last evaluation of its delegate.
+     */
+    static final class SnapshotHealthIndicator implements HealthIndicator {
+
+        private final HealthIndicator delegate;
+        private final long maxStalenessNanos;
+
+        private volatile Snapshot snapshot;
+
+        SnapshotHealthIndicator(HealthIndicator delegate, long maxStalenessNanos) {
+            this.delegate = delegate;
+            this.maxStalenessNanos = maxStalenessNanos;
+            this.snapshot = new Snapshot(Health.unknown().withDetail("snapshot", "pending").build(),
+                    System.nanoTime(), Instant.now());
+        }
+
+        @Override
+        public Health health() {
+            Snapshot current = snapshot;
+            if (System.nanoTime() - current.nanoTime > maxStalenessNanos) {
+                return Health.down()
+                        .withDetail("snapshot", "stale")
+                        .withDetail("lastUpdated", current.updated.toString())
+                        .withDetail("lastStatus", current.health.getStatus().getCode())
+                        .build();
+            }
+            return current.health;
+        }
+
+        void refresh() {
+            Health health;
+            try {
+                health = delegate.getHealth(true);
+            } catch (RuntimeException e) {
+                health = Health.down(e).build();
+            }
+            snapshot = new Snapshot(health, System.nanoTime(), Instant.now());
+        }
+
+        private record Snapshot(Health health, long nanoTime, Instant updated) {
+        }
+    }
+}
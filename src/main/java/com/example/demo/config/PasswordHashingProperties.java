@@ -0,0 +1,22 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Password hashing settings bound from {@code password.hashing.*}. The pool, its
+ * queue and the timeout are the {@code passwordHashing} thread-pool bulkhead and
+ * time limiter.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "password.hashing")
+public class PasswordHashingProperties {
+
+    /**
+     * BCrypt cost (log2 rounds, 4-31); each step doubles the time per hash.
+     */
+    private int strength = 10;
+}
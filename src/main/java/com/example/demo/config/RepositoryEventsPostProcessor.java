@@ -0,0 +1,49 @@
+package com.example.demo.config;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.jfr.RepositoryCallEvent;
+
+/**
+ * Records a {@link RepositoryCallEvent} for every Spring Data repository call.
+ * The interceptor is added to the repository proxy itself, so inherited
+ * methods such as {@code findById} are covered in both the proxy and the
+ * compile-time woven (aspectj profile) builds.
+ */
+@Component
+public class RepositoryEventsPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+        // Runs before afterPropertiesSet(), which is where the factory bean creates the repository
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                            recordingInterceptor(repositoryInformation.getRepositoryInterface()))));
+        }
+        return bean;
+    }
+
+    private static MethodInterceptor recordingInterceptor(Class<?> repositoryInterface) {
+        return invocation -> {
+            RepositoryCallEvent event = new RepositoryCallEvent();
+            if (!event.isEnabled()) {
+                return invocation.proceed();
+            }
+            event.begin();
+            Throwable failure = null;
+            try {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                failure = e;
+                throw e;
+            } finally {
+                event.complete(repositoryInterface, invocation.getMethod(), failure);
+            }
+        };
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.demo.config;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.github.resilience4j.common.retry.configuration.RetryConfigCustomizer;
+import io.github.resilience4j.core.registry.EntryAddedEvent;
+import io.github.resilience4j.core.registry.EntryRemovedEvent;
+import io.github.resilience4j.core.registry.EntryReplacedEvent;
+import io.github.resilience4j.core.registry.RegistryEventConsumer;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Token bucket shared by every guarded Retry instance. Each retry attempt
+ * takes a token; tokens come back as a share of successful calls plus a
+ * minimum per-second allowance. Once the bucket is empty a failure is no
+ * longer retried and reaches the caller straight away, so retries cannot
+ * multiply the load on a degraded downstream.
+ */
+@Component
+public class RetryBudget implements MeterBinder, RegistryEventConsumer<Retry> {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetryBudget.class);
+
+    @Autowired
+    private RetryBudgetProperties properties;
+
+    // Lazy: the registry is built with this budget's customizers.
+    @Autowired
+    private ObjectProvider<RetryRegistry> retryRegistry;
+
+    private final Set<String> instances = new CopyOnWriteArraySet<>();
+
+    private final LongAdder permitted = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+
+    private final LongAdder refunded = new LongAdder();
+
+    private double tokens = Double.NaN;
+
+    private long lastRefillNanos;
+
+    private long lastSuccesses;
+
+    /**
+     * Customizer that puts the named Retry instance on this budget.
+     */
+    public RetryConfigCustomizer customizer(String instanceName) {
+        return RetryConfigCustomizer.of(instanceName, rawBuilder -> {
+            if (!properties.isEnabled()) {
+                return;
+            }
+            instances.add(instanceName);
+            // The customizer hands over a raw builder; the wildcard keeps its calls checked.
+            RetryConfig.Builder<?> builder = rawBuilder;
+            // Snapshot the configured retry/ignore rules, then replace them with
+            // a single predicate that only retries while the budget allows it.
+            Predicate<Throwable> configured = builder.build().getExceptionPredicate();
+            Predicate<Throwable> budgeted = failure -> configured.test(failure) && tryAcquire(instanceName);
+            builder.retryExceptions()
+                    .ignoreExceptions()
+                    .retryOnException(budgeted);
+        });
+    }
+
+    /**
+     * Takes one retry token; false means the failure should not be retried.
+     */
+    public boolean tryAcquire(String instanceName) {
+        boolean granted;
+        synchronized (this) {
+            refill();
+            granted = tokens >= 1;
+            if (granted) {
+                tokens -= 1;
+            }
+        }
+        if (granted) {
+            permitted.increment();
+        } else {
+            rejected.increment();
+            logger.debug("Retry budget exhausted, not retrying '{}'", instanceName);
+        }
+        return granted;
+    }
+
+    /**
+     * Returns the token taken for a failure that then was not retried because
+     * the instance had run out of attempts; Resilience4j checks the exception
+     * predicate before the attempt count.
+     */
+    synchronized void refund() {
+        tokens = Math.min(tokens + 1, properties.getMaxTokens());
+        // Counted separately: the permitted counter must never go down
+        refunded.increment();
+    }
+
+    /**
+     * Tokens currently in the bucket.
+     */
+    public synchronized double available() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        long successes = successfulCalls();
+        if (Double.isNaN(tokens)) {
+            tokens = properties.getMaxTokens();
+        } else {
+            double earned = (now - lastRefillNanos) / 1e9 * properties.getMinRetriesPerSecond();
+            if (successes > lastSuccesses) {
+                earned += (successes - lastSuccesses) * properties.getRatio();
+            }
+            tokens = Math.min(tokens + earned, properties.getMaxTokens());
+        }
+        lastRefillNanos = now;
+        lastSuccesses = successes;
+    }
+
+    private long successfulCalls() {
+        RetryRegistry registry = retryRegistry.getIfAvailable();
+        if (registry == null) {
+            return 0;
+        }
+        long total = 0;
+        for (String name : instances) {
+            Retry retry = registry.find(name).orElse(null);
+            if (retry != null) {
+                Retry.Metrics metrics = retry.getMetrics();
+                total += metrics.getNumberOfSuccessfulCallsWithoutRetryAttempt()
+                        + metrics.getNumberOfSuccessfulCallsWithRetryAttempt();
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public void onEntryAddedEvent(EntryAddedEvent<Retry> event) {
+        watch(event.getAddedEntry());
+    }
+
+    @Override
+    public void onEntryRemovedEvent(EntryRemovedEvent<Retry> event) {
+    }
+
+    @Override
+    public void onEntryReplacedEvent(EntryReplacedEvent<Retry> event) {
+        watch(event.getNewEntry());
+    }
+
+    private void watch(Retry retry) {
+        if (instances.contains(retry.getName())) {
+            retry.getEventPublisher().onError(event -> refund());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("resilience4j.retry.budget.tokens", this, RetryBudget::available)
+                .description("Retry tokens left in the shared budget")
+                .register(registry);
+        FunctionCounter.builder("resilience4j.retry.budget.calls", permitted, LongAdder::sum)
+                .description("Retry attempts checked against the shared budget")
+                .tag("kind", "permitted")
+                .register(registry);
+        FunctionCounter.builder("resilience4j.retry.budget.calls", rejected, LongAdder::sum)
+                .description("Retry attempts checked against the shared budget")
+                .tag("kind", "rejected")
+                .register(registry);
+        FunctionCounter.builder("resilience4j.retry.budget.calls", refunded, LongAdder::sum)
+                .description("Retry attempts checked against the shared budget")
+                .tag("kind", "refunded")
+                .register(registry);
+    }
+}
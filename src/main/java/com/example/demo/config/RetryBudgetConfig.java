@@ -0,0 +1,19 @@
+package com.example.demo.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.resilience4j.common.retry.configuration.RetryConfigCustomizer;
+
+/**
+ * Puts the Retry instances on the shared {@link RetryBudget}; add a customizer
+ * here for every new instance that calls the same downstream.
+ */
+@Configuration
+public class RetryBudgetConfig {
+
+    @Bean
+    public RetryConfigCustomizer userServiceRetryBudget(RetryBudget retryBudget) {
+        return retryBudget.customizer("userService");
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Shared retry budget settings bound from {@code retry.budget.*}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "retry.budget")
+public class RetryBudgetProperties {
+
+    /**
+     * When false the guarded Retry instances retry exactly as configured.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Retry tokens earned per successful call, i.e. retries may add at most this share of load.
+     */
+    private double ratio = 0.1;
+
+    /**
+     * Retry tokens earned per second regardless of traffic, so low-volume callers can still retry.
+     */
+    private double minRetriesPerSecond = 10;
+
+    /**
+     * Bucket capacity; also the number of tokens available at startup.
+     */
+    private double maxTokens = 100;
+}
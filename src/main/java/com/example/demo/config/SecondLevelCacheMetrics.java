@@ -0,0 +1,46 @@
+package com.example.demo.config;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Publishes the Hibernate second-level cache region for users under the same
+ * {@code cache.gets} / {@code cache.puts} meters the Spring user cache uses,
+ * so both cache modes can be compared on one dashboard.
+ */
+@Component
+@Profile("l2cache")
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        String region = CacheConfig.USERS_CACHE;
+
+        FunctionCounter.builder("cache.gets", statistics, stats -> regionStatistics(stats, region).getHitCount())
+                .tags("cache", region, "cache.manager", "hibernate", "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", statistics, stats -> regionStatistics(stats, region).getMissCount())
+                .tags("cache", region, "cache.manager", "hibernate", "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.puts", statistics, stats -> regionStatistics(stats, region).getPutCount())
+                .tags("cache", region, "cache.manager", "hibernate")
+                .register(registry);
+    }
+
+    private static CacheRegionStatistics regionStatistics(Statistics statistics, String region) {
+        return statistics.getDomainDataRegionStatistics(region);
+    }
+}
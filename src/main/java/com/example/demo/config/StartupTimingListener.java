@@ -0,0 +1,36 @@
+package com.example.demo.config;
+
+import java.lang.management.ManagementFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logs the time to ready, i.e. after the web server is up and the command line
+ * runners (sample data included) have finished. With startup.exit-when-ready
+ * the application then exits, which is used by the CDS training run and the
+ * startup benchmark.
+ */
+@Component
+public class StartupTimingListener implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupTimingListener.class);
+
+    // read at runtime rather than through a condition, which AOT would fix at build time
+    @Value("${startup.exit-when-ready:false}")
+    private boolean exitWhenReady;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        logger.info("Application ready in {} ms (JVM up for {} ms)",
+                event.getTimeTaken().toMillis(), ManagementFactory.getRuntimeMXBean().getUptime());
+        if (exitWhenReady) {
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.demo.config;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.model.User;
+import com.example.demo.service.PasswordHasher;
+
+/**
+ * Generates large synthetic user tables for profiling. Rows are inserted with
+ * plain JDBC batches in parallel chunks, bypassing the persistence context,
+ * with explicit ids; the id sequence is moved past them afterwards so JPA
+ * inserts continue from there. All rows share one BCrypt hash of a random
+ * password, since hashing each row would dominate the load time.
+ */
+@Component
+public class UserDataSeeder {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserDataSeeder.class);
+
+    private static final String INSERT_SQL =
+            "insert into users (id, first_name, last_name, email, age, password, version) values (?, ?, ?, ?, ?, ?, 0)";
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "William", "Elizabeth",
+            "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+            "Daniel", "Nancy", "Matthew", "Lisa", "Anthony", "Betty", "Mark", "Margaret", "Steven", "Sandra",
+            "Paul", "Ashley", "Andrew", "Emily", "Joshua", "Donna", "Kenneth", "Michelle", "Kevin", "Carol"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+            "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson",
+            "Walker", "Young", "Allen", "King", "Wright", "Scott", "Torres", "Nguyen", "Hill", "Flores"
+    };
+
+    private static final String[] EMAIL_DOMAINS = {"example.com", "example.org", "example.net", "mail.example.com"};
+
+    private static final char[] PASSWORD_CHARS =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789".toCharArray();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSeedProperties properties;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    /**
+     * Inserts {@code data.seed.users} generated users after the highest existing id.
+     *
+     * @return the number of rows inserted
+     */
+    public long seed() {
+        long total = properties.getUsers();
+        int chunkSize = properties.getChunkSize();
+        long firstId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from users", Long.class) + 1;
+        double[] firstNameWeights = cumulativeWeights(FIRST_NAMES.length, properties.getNameSkew());
+        double[] lastNameWeights = cumulativeWeights(LAST_NAMES.length, properties.getNameSkew());
+        String passwordHash = passwordHasher.hash(password(new SplittableRandom(properties.getSeed())));
+
+        logger.info("Seeding {} users with {} threads (seed {}, chunks of {}, batches of {})",
+                total, properties.getThreads(), properties.getSeed(), chunkSize, properties.getBatchSize());
+        long started = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getThreads(),
+                Thread.ofPlatform().name("data-seed-", 0).factory());
+        try {
+            List<Future<?>> chunks = new ArrayList<>();
+            for (long offset = 0; offset < total; offset += chunkSize) {
+                long chunk = offset / chunkSize;
+                long startId = firstId + offset;
+                int size = (int) Math.min(chunkSize, total - offset);
+                chunks.add(executor.submit(
+                        () -> insertChunk(chunk, startId, size, firstNameWeights, lastNameWeights, passwordHash)));
+            }
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while seeding users", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Seeding users failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // the pooled optimizer hands out the ids below the sequence value, so leave a full block of room
+        long lastId = firstId + total - 1;
+        jdbcTemplate.execute("alter sequence " + User.ID_SEQUENCE + " restart with " + (lastId + User.ID_ALLOCATION_SIZE));
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        logger.info("Seeded {} users in {} ms ({} rows/s)", total, elapsedMillis, total * 1000 / elapsedMillis);
+        return total;
+    }
+
+    private void insertChunk(long chunk, long startId, int size, double[] firstNameWeights, double[] lastNameWeights,
+            String passwordHash) {
+        // one random sequence per chunk keeps the rows independent of the thread count
+        SplittableRandom random = new SplittableRandom(properties.getSeed() ^ (chunk * 0x9E3779B97F4A7C15L));
+        int batchSize = properties.getBatchSize();
+
+        for (int done = 0; done < size; done += batchSize) {
+            long batchStartId = startId + done;
+            int count = Math.min(batchSize, size - done);
+            jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    long id = batchStartId + i;
+                    String firstName = FIRST_NAMES[pick(firstNameWeights, random)];
+                    String lastName = LAST_NAMES[pick(lastNameWeights, random)];
+                    String domain = EMAIL_DOMAINS[random.nextInt(EMAIL_DOMAINS.length)];
+
+                    ps.setLong(1, id);
+                    ps.setString(2, firstName);
+                    ps.setString(3, lastName);
+                    ps.setString(4, (firstName + "." + lastName + "." + id + "@" + domain).toLowerCase(Locale.ROOT));
+                    ps.setInt(5, age(random));
+                    ps.setString(6, passwordHash);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return count;
+                }
+            });
+        }
+        logger.debug("Seeded users {} to {}", startId, startId + size - 1);
+    }
+
+    private int age(SplittableRandom random) {
+        long age = Math.round(properties.getAgeMean() + properties.getAgeStdDev() * random.nextGaussian());
+        return (int) Math.max(properties.getMinAge(), Math.min(properties.getMaxAge(), age));
+    }
+
+    private String password(SplittableRandom random) {
+        char[] password = new char[properties.getPasswordLength()];
+        for (int i = 0; i < password.length; i++) {
+            password[i] = PASSWORD_CHARS[random.nextInt(PASSWORD_CHARS.length)];
+        }
+        return new String(password);
+    }
+
+    /**
+     * Cumulative Zipf weights, normalized to end at 1.
+     */
+    private static double[] cumulativeWeights(int size, double skew) {
+        double[] cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1 / Math.pow(rank + 1, skew);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static int pick(double[] cumulativeWeights, SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulativeWeights, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cumulativeWeights.length - 1);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Registers the serialized user JSON cache when {@code users.json-cache.enabled=true}.
+ * Spring Boot puts HttpMessageConverter beans ahead of the default Jackson
+ * converter, so user responses go through the cache and everything else does not.
+ * Its hits, misses and size are published as {@code cache.*} metrics for {@code users.json}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "users.json-cache", name = "enabled", havingValue = "true")
+public class UserJsonCacheConfig {
+
+    public static final String USERS_JSON_CACHE = "users.json";
+
+    @Bean
+    public UserJsonHttpMessageConverter userJsonHttpMessageConverter(ObjectMapper objectMapper,
+            UserJsonCacheProperties properties) {
+        return new UserJsonHttpMessageConverter(objectMapper, properties);
+    }
+
+    @Bean
+    public MeterBinder userJsonCacheMetrics(UserJsonHttpMessageConverter converter) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, converter.getCache(), USERS_JSON_CACHE);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Serialized user JSON cache settings bound from {@code users.json-cache.*}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "users.json-cache")
+public class UserJsonCacheProperties {
+
+    /**
+     * Whether UserDto responses are written from cached JSON bytes.
+     */
+    private boolean enabled;
+
+    /**
+     * Upper bound for the cached JSON, in bytes.
+     */
+    private long maxBytes = 64L * 1024 * 1024;
+
+    /**
+     * Keep the JSON in direct (off-heap) buffers; -XX:MaxDirectMemorySize must leave room for maxBytes.
+     */
+    private boolean direct;
+}
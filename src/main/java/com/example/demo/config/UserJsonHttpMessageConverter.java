@@ -0,0 +1,150 @@
+package com.example.demo.config;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import com.example.demo.dto.UserDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Writes {@code UserDto} and {@code List<UserDto>} responses from a bounded
+ * cache of each user's JSON bytes at a given version, so a user is serialized
+ * once per version rather than once per response. Lists are assembled from
+ * the cached fragments. Write-only; request bodies are still read by Jackson.
+ */
+public class UserJsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private static final byte[] ARRAY_START = {'['};
+    private static final byte[] ARRAY_SEPARATOR = {','};
+    private static final byte[] ARRAY_END = {']'};
+    private static final int COPY_BUFFER_SIZE = 1024;
+
+    private record Entry(long version, ByteBuffer json) {
+    }
+
+    private final ObjectWriter writer;
+    private final boolean direct;
+    private final Cache<Long, Entry> cache;
+
+    public UserJsonHttpMessageConverter(ObjectMapper objectMapper, UserJsonCacheProperties properties) {
+        super(MediaType.APPLICATION_JSON);
+        this.writer = objectMapper.writerFor(UserDto.class);
+        this.direct = properties.isDirect();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxBytes())
+                .weigher((Long id, Entry entry) -> entry.json().capacity())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * The underlying cache, for metrics.
+     */
+    public Cache<Long, ?> getCache() {
+        return cache;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return UserDto.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return (type instanceof ParameterizedType parameterized ? isUserDtoList(parameterized) : supports(clazz))
+                && canWrite(mediaType);
+    }
+
+    private static boolean isUserDtoList(ParameterizedType type) {
+        return type.getRawType() instanceof Class<?> rawType && List.class.isAssignableFrom(rawType)
+                && type.getActualTypeArguments()[0] == UserDto.class;
+    }
+
+    @Override
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        OutputStream out = outputMessage.getBody();
+        // direct buffers are copied out through one small array per response
+        byte[] copyBuffer = direct ? new byte[COPY_BUFFER_SIZE] : null;
+        if (body instanceof UserDto user) {
+            write(json(user), out, copyBuffer);
+            return;
+        }
+
+        out.write(ARRAY_START);
+        boolean first = true;
+        for (Object user : (List<?>) body) {
+            if (!first) {
+                out.write(ARRAY_SEPARATOR);
+            }
+            first = false;
+            write(json((UserDto) user), out, copyBuffer);
+        }
+        out.write(ARRAY_END);
+    }
+
+    private static void write(ByteBuffer json, OutputStream out, byte[] copyBuffer) throws IOException {
+        if (json.hasArray()) {
+            out.write(json.array(), json.arrayOffset(), json.remaining());
+            return;
+        }
+        // shared buffer, so each write reads through its own duplicate
+        ByteBuffer source = json.duplicate();
+        while (source.hasRemaining()) {
+            int length = Math.min(source.remaining(), copyBuffer.length);
+            source.get(copyBuffer, 0, length);
+            out.write(copyBuffer, 0, length);
+        }
+    }
+
+    private ByteBuffer json(UserDto user) throws IOException {
+        // Only read models are cached: their JSON is fixed by id and version
+        if (user.getId() == null || user.getVersion() == null || user.getPassword() != null) {
+            return ByteBuffer.wrap(writer.writeValueAsBytes(user));
+        }
+        long version = user.getVersion();
+        Entry entry = cache.getIfPresent(user.getId());
+        if (entry != null && entry.version() == version) {
+            return entry.json();
+        }
+
+        byte[] bytes = writer.writeValueAsBytes(user);
+        ByteBuffer json = direct ? ByteBuffer.allocateDirect(bytes.length).put(bytes).flip() : ByteBuffer.wrap(bytes);
+        // never replace a newer version with an older one from a slower request
+        cache.asMap().merge(user.getId(), new Entry(version, json),
+                (current, candidate) -> candidate.version() >= current.version() ? candidate : current);
+        return json;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("UserJsonHttpMessageConverter only writes", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("UserJsonHttpMessageConverter only writes", inputMessage);
+    }
+}
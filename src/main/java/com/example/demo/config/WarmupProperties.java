@@ -0,0 +1,51 @@
+package com.example.demo.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * JIT warm-up settings bound from {@code warmup.*}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "warmup")
+public class WarmupProperties {
+
+    /**
+     * Replay synthetic requests before readiness reports ACCEPTING_TRAFFIC.
+     */
+    private boolean enabled;
+
+    /**
+     * Upper bound on the warm-up time.
+     */
+    private Duration duration = Duration.ofSeconds(20);
+
+    /**
+     * Upper bound on the number of requests; whichever limit is hit first ends the warm-up.
+     */
+    private long iterations = 20_000;
+
+    /**
+     * Concurrent clients replaying the requests.
+     */
+    private int threads = 4;
+
+    /**
+     * Request paths replayed in round-robin order against the local server.
+     */
+    private List<String> paths = new ArrayList<>(List.of(
+            "/api/users/1",
+            "/api/users/0",
+            "/api/users?limit=50",
+            "/api/users/search?lastNamePrefix=S&limit=20",
+            "/api/resilience/circuit-breaker/warmup",
+            "/api/resilience/async/circuit-breaker/warmup",
+            "/api/resilience/rate-limiter/warmup"));
+}
@@ -0,0 +1,136 @@
+package com.example.demo.config;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.config.CircuitBreakerStateStore.WindowCounts;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+/**
+ * Replays synthetic requests through the running server so the hot paths are
+ * JIT-compiled before the instance takes traffic. Runs as the last runner, and
+ * Spring Boot only publishes ReadinessState.ACCEPTING_TRAFFIC once all runners
+ * have returned, so readiness stays refused until the warm-up is over.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmupRunner.class);
+
+    @Autowired
+    private WarmupProperties warmupProperties;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!warmupProperties.isEnabled() || warmupProperties.getPaths().isEmpty()) {
+            return;
+        }
+        if (!(applicationContext instanceof WebServerApplicationContext webContext)
+                || webContext.getWebServer() == null) {
+            logger.info("Skipping warm-up: no embedded web server");
+            return;
+        }
+
+        int port = webContext.getWebServer().getPort();
+        List<URI> uris = warmupProperties.getPaths().stream()
+                .map(path -> URI.create("http://localhost:" + port + path))
+                .toList();
+        int threads = Math.max(1, warmupProperties.getThreads());
+        long iterations = warmupProperties.getIterations();
+        long deadline = System.nanoTime() + warmupProperties.getDuration().toNanos();
+        AtomicLong requests = new AtomicLong();
+        AtomicLong completed = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+
+        logger.info("Warming up with {} threads for up to {} or {} requests",
+                threads, warmupProperties.getDuration(), iterations);
+        long start = System.nanoTime();
+
+        // Disabled breakers still run the calls but record nothing, so the
+        // warm-up neither skews failure rates nor trips a breaker. Breakers that
+        // came up open (see CircuitBreakerStateStore) are left alone, and the
+        // windows restored into closed ones are put back afterwards.
+        Map<CircuitBreaker, WindowCounts> breakers = new LinkedHashMap<>();
+        circuitBreakerRegistry.getAllCircuitBreakers().stream()
+                .filter(circuitBreaker -> circuitBreaker.getState() == CircuitBreaker.State.CLOSED)
+                .forEach(circuitBreaker -> breakers.put(circuitBreaker, WindowCounts.of(circuitBreaker)));
+        breakers.keySet().forEach(CircuitBreaker::transitionToDisabledState);
+
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        try {
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                workers.execute(() -> {
+                    long n;
+                    while ((n = requests.getAndIncrement()) < iterations && System.nanoTime() < deadline) {
+                        URI uri = uris.get((int) ((n + offset) % uris.size()));
+                        try {
+                            HttpResponse<Void> response = client.send(
+                                    HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(10)).build(),
+                                    HttpResponse.BodyHandlers.discarding());
+                            completed.incrementAndGet();
+                            if (response.statusCode() >= 500) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            workers.shutdown();
+            long remaining = deadline - System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            if (!workers.awaitTermination(Math.max(remaining, 0), TimeUnit.NANOSECONDS)) {
+                workers.shutdownNow();
+            }
+        } finally {
+            workers.shutdownNow();
+            client.close();
+            breakers.forEach((circuitBreaker, window) -> {
+                circuitBreaker.reset();
+                CircuitBreakerStateStore.replay(circuitBreaker, window);
+            });
+        }
+
+        logger.info("Warm-up finished: {} requests ({} errors) in {} ms",
+                completed.get(), errors.get(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+}
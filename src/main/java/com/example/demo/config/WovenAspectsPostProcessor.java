@@ -0,0 +1,76 @@
+package com.example.demo.config;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AnnotationAwareAspectJAutoProxyCreator;
+import org.springframework.aop.config.AopConfigUtils;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Hands the application's aspects over to AspectJ when they were woven at
+ * build time (aspectj profile). Their bean definitions are switched to the
+ * static aspectOf() singleton, so dependencies are injected into the instance
+ * the woven code actually calls, and they are excluded from Spring's
+ * auto-proxying so the advice does not run a second time through a proxy.
+ * With the default proxy-based build this does nothing.
+ */
+@Component
+public class WovenAspectsPostProcessor implements BeanFactoryPostProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(WovenAspectsPostProcessor.class);
+
+    private static final String APPLICATION_PACKAGE = "com.example.demo.";
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        List<String> wovenAspects = new ArrayList<>();
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (definition instanceof AbstractBeanDefinition beanDefinition
+                    && isWovenAspect(definition.getBeanClassName(), beanFactory.getBeanClassLoader())) {
+                beanDefinition.setFactoryMethodName("aspectOf");
+                wovenAspects.add(beanName);
+            }
+        }
+        if (wovenAspects.isEmpty()) {
+            return;
+        }
+
+        String autoProxyCreator = AopConfigUtils.AUTO_PROXY_CREATOR_BEAN_NAME;
+        if (beanFactory.containsBeanDefinition(autoProxyCreator)) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(autoProxyCreator);
+            if (AnnotationAwareAspectJAutoProxyCreator.class.getName().equals(definition.getBeanClassName())) {
+                String excluded = wovenAspects.stream().map(Pattern::quote).collect(Collectors.joining("|"));
+                definition.getPropertyValues().add("includePatterns", List.of("^(?!(" + excluded + ")$).*$"));
+            }
+        }
+        logger.info("Using compile-time woven aspects: {}", wovenAspects);
+    }
+
+    private static boolean isWovenAspect(String className, ClassLoader classLoader) {
+        if (className == null || !className.startsWith(APPLICATION_PACKAGE)) {
+            return false;
+        }
+        Class<?> type = ClassUtils.resolveClassName(className, classLoader);
+        if (!type.isAnnotationPresent(Aspect.class)) {
+            return false;
+        }
+        Method aspectOf = ReflectionUtils.findMethod(type, "aspectOf");
+        return aspectOf != null && Modifier.isStatic(aspectOf.getModifiers());
+    }
+}
@@ -1,6 +1,11 @@
 package com.example.demo.controller;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -20,6 +25,10 @@ public class ResilienceController {
 
     @Autowired
     private ResilienceExampleService resilienceService;
+
+    // Backstop for the async endpoints only; the MVC async timeout also governs the NDJSON user stream
+    @Value("${resilience.async.request-timeout:5s}")
+    private Duration asyncRequestTimeout;
     
     /**
      * Endpoint demonstrating circuit breaker pattern.
@@ -60,4 +69,27 @@ public class ResilienceController {
         String result = resilienceService.combinedResilienceOperation(input);
         return ResponseEntity.ok(result);
     }
+    
+    /**
+     * Async circuit breaker endpoint: the request thread is released while the
+     * call runs on the thread-pool bulkhead, bounded by the time limiter.
+     */
+    @GetMapping("/async/circuit-breaker/{input}")
+    @LogApiCall("Async Circuit Breaker Example")
+    public CompletableFuture<ResponseEntity<String>> asyncCircuitBreakerExample(@PathVariable String input) {
+        return resilienceService.callExternalServiceAsync(input)
+                .orTimeout(asyncRequestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .thenApply(ResponseEntity::ok);
+    }
+    
+    /**
+     * Async combined resilience patterns endpoint.
+     */
+    @GetMapping("/async/combined/{input}")
+    @LogApiCall("Async Combined Resilience Patterns Example")
+    public CompletableFuture<ResponseEntity<String>> asyncCombinedExample(@PathVariable String input) {
+        return resilienceService.combinedResilienceOperationAsync(input)
+                .orTimeout(asyncRequestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .thenApply(ResponseEntity::ok);
+    }
 }
@@ -1,9 +1,14 @@
 package com.example.demo.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,12 +16,22 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import com.example.demo.aspect.LogApiCall;
+import com.example.demo.dto.UserBatchResult;
 import com.example.demo.dto.UserDto;
+import com.example.demo.dto.UserListVersion;
 import com.example.demo.service.UserService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 /**
  * REST controller for managing User operations.
@@ -27,39 +42,134 @@ import com.example.demo.service.UserService;
 @LogApiCall
 public class UserController {
 
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 1000;
+
     @Autowired
     private UserService userService;
 
-    // Create user
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Create user; the ETag is the new user's version
     @PostMapping
     @LogApiCall(value = "Create new user", logResponse = false)
     public ResponseEntity<UserDto> createUser(@RequestBody UserDto userDto) {
 
         UserDto createdUser = userService.createUser(userDto);
 
-        return new ResponseEntity<>(createdUser, HttpStatus.CREATED);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(String.valueOf(createdUser.getVersion()))
+                .body(createdUser);
     }
 
-    // Get user by ID
+    // Get user by ID; the ETag is the user's version
     @GetMapping("/{id}")
     @LogApiCall("Get user by ID")
-    public ResponseEntity<UserDto> getUserById(@PathVariable Long id) {
+    public ResponseEntity<UserDto> getUserById(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        // Answer If-None-Match from the version alone, before the user is loaded
+        if (ifNoneMatch != null) {
+            String etag = String.valueOf(userService.getUserVersion(id));
+            if (matches(ifNoneMatch, etag)) {
+                return notModified(etag);
+            }
+        }
 
         UserDto userDto = userService.getUserById(id);
-        return ResponseEntity.ok(userDto);
+        return ResponseEntity.ok().eTag(String.valueOf(userDto.getVersion())).body(userDto);
     }
 
-    // Get all users
+    // Get all users, or one keyset page when after or limit is given; the ETag covers the ids and versions listed
     @GetMapping
     @LogApiCall(value = "Get all users", logResponse = false)
-    public ResponseEntity<List<UserDto>> getAllUsers() {
+    public ResponseEntity<List<UserDto>> getAllUsers(@RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        if (after == null && limit == null) {
+            if (ifNoneMatch != null) {
+                String etag = userService.getAllUsersVersion().etag();
+                if (matches(ifNoneMatch, etag)) {
+                    return notModified(etag);
+                }
+            }
+            List<UserDto> users = userService.getAllUsers();
+            return ResponseEntity.ok().eTag(UserListVersion.of(users).etag()).body(users);
+        }
+
+        int pageSize = Math.max(1, Math.min(limit != null ? limit : DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE));
+        long afterId = after != null ? after : 0L;
+        if (ifNoneMatch != null) {
+            String etag = userService.getUsersAfterVersion(afterId, pageSize).etag();
+            if (matches(ifNoneMatch, etag)) {
+                return notModified(etag);
+            }
+        }
+        List<UserDto> users = userService.getUsersAfter(afterId, pageSize);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(UserListVersion.of(users).etag());
+        if (users.size() == pageSize) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", users.get(users.size() - 1).getId())
+                    .replaceQueryParam("limit", pageSize)
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(users);
+    }
 
-        List<UserDto> users = userService.getAllUsers();
+    // Search users by email, last name prefix and/or age range, one page at a time
+    @GetMapping("/search")
+    @LogApiCall(value = "Search users", logResponse = false)
+    public ResponseEntity<List<UserDto>> searchUsers(@RequestParam(required = false) String email,
+            @RequestParam(required = false) String lastNamePrefix,
+            @RequestParam(required = false) Integer minAge,
+            @RequestParam(required = false) Integer maxAge,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer limit) {
+
+        int pageNumber = Math.max(0, page);
+        int pageSize = Math.max(1, Math.min(limit != null ? limit : DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE));
+        List<UserDto> users = userService.searchUsers(email, lastNamePrefix, minAge, maxAge, pageNumber, pageSize);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (users.size() == pageSize) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("page", pageNumber + 1)
+                    .replaceQueryParam("limit", pageSize)
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(users);
+    }
 
-        return ResponseEntity.ok(users);
+    // Stream all users as newline-delimited JSON, written straight to the response
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @LogApiCall(value = "Stream all users", logResponse = false)
+    public ResponseEntity<StreamingResponseBody> streamAllUsers() {
+
+        ObjectWriter writer = objectMapper.writerFor(UserDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                userService.streamAllUsers(user -> {
+                    try {
+                        writer.writeValue(generator, user);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
-    // Update user
+    // Update user; the ETag is the version after the update
     @PutMapping("/{id}")
     @LogApiCall("Update existing user")
     public ResponseEntity<UserDto> updateUser(@PathVariable Long id,
@@ -67,16 +177,47 @@ public class UserController {
 
         UserDto updatedUser = userService.updateUser(id, userDto);
 
-        return ResponseEntity.ok(updatedUser);
+        return ResponseEntity.ok().eTag(String.valueOf(updatedUser.getVersion())).body(updatedUser);
     }
 
     // Delete user
     @DeleteMapping("/{id}")
     @LogApiCall("Delete user")
-    public ResponseEntity<String> deleteUser(@PathVariable Long id) {
+    public ResponseEntity<String> deleteUser(@PathVariable Long id,
+            @RequestParam(required = false) Long version) {
 
-        userService.deleteUser(id);
+        userService.deleteUser(id, version);
 
         return ResponseEntity.ok("User deleted successfully");
     }
+
+    // Create users in batch; an invalid entry rejects the whole batch with 400
+    @PostMapping("/batch")
+    @LogApiCall(value = "Create users in batch", summarize = true)
+    public ResponseEntity<UserBatchResult> createUsers(@RequestBody List<UserDto> users) {
+
+        UserBatchResult result = userService.createUsers(users);
+
+        return new ResponseEntity<>(result, result.isRejected() ? HttpStatus.BAD_REQUEST : HttpStatus.CREATED);
+    }
+
+    // Update users in batch, with per-user not found and version conflict results
+    @PutMapping("/batch")
+    @LogApiCall(value = "Update users in batch", summarize = true)
+    public ResponseEntity<UserBatchResult> updateUsers(@RequestBody List<UserDto> users) {
+
+        UserBatchResult result = userService.updateUsers(users);
+
+        return new ResponseEntity<>(result, result.isRejected() ? HttpStatus.BAD_REQUEST : HttpStatus.OK);
+    }
+
+    // If-None-Match uses the weak comparison, so W/ tags match too
+    private static boolean matches(String ifNoneMatch, String etag) {
+        return ETag.parse(ifNoneMatch).stream()
+                .anyMatch(tag -> tag.isWildcard() || tag.tag().equals(etag));
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
 }
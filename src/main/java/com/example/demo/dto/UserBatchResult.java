@@ -0,0 +1,52 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Outcome of a batch create or update: counts plus one item per user that was
+ * written or failed. A rejected batch failed validation and wrote nothing; its
+ * items list only the invalid entries.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(exclude = {"items"}) // Keep batch log lines to the counts
+public class UserBatchResult {
+
+    public enum Status {
+        CREATED, UPDATED, NOT_FOUND, CONFLICT, INVALID
+    }
+
+    private boolean rejected;
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<Item> items;
+
+    public static UserBatchResult completed(List<Item> items) {
+        int succeeded = (int) items.stream()
+                .filter(item -> item.getStatus() == Status.CREATED || item.getStatus() == Status.UPDATED)
+                .count();
+        return new UserBatchResult(false, items.size(), succeeded, items.size() - succeeded, items);
+    }
+
+    public static UserBatchResult rejected(int total, List<Item> invalidItems) {
+        return new UserBatchResult(true, total, 0, invalidItems.size(), invalidItems);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private int index;
+        private Long id;
+        private Status status;
+        private Long version;
+        private String message;
+    }
+}
@@ -22,4 +22,9 @@ public class UserDto {
     
     @LogSensitive
     private String password;
+
+    /**
+     * Version last seen by the client; when sent with an update or delete it must still be current.
+     */
+    private Long version;
 }
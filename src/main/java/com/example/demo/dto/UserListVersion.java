@@ -0,0 +1,28 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+/**
+ * Version of a list of users, from their ids and row versions only. Updates
+ * raise the version sum and deletes lower the count; since ids only grow,
+ * any insert raises the max id, so every change to the list changes it.
+ */
+public record UserListVersion(Long count, Long maxId, Long versionSum) {
+
+    public static UserListVersion of(List<UserDto> users) {
+        long maxId = 0;
+        long versionSum = 0;
+        for (UserDto user : users) {
+            maxId = Math.max(maxId, user.getId());
+            versionSum += user.getVersion() != null ? user.getVersion() : 0;
+        }
+        return new UserListVersion((long) users.size(), maxId, versionSum);
+    }
+
+    /**
+     * Strong entity tag for the list; empty lists report a null max id and sum from the database.
+     */
+    public String etag() {
+        return count + "-" + (maxId != null ? maxId : 0) + "-" + (versionSum != null ? versionSum : 0);
+    }
+}
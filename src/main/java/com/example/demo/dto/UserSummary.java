@@ -0,0 +1,21 @@
+package com.example.demo.dto;
+
+import com.example.demo.aspect.LogSensitive;
+
+/**
+ * Read-only projection of the user columns exposed through UserDto. Selected
+ * directly by UserRepository queries, so read paths never hydrate a User
+ * entity, load the password or touch the persistence context.
+ */
+public record UserSummary(
+        Long id,
+        String firstName,
+        String lastName,
+        @LogSensitive(showFirst = 3, showLast = 2) String email,
+        int age,
+        Long version) {
+
+    public UserDto toDto() {
+        return new UserDto(id, firstName, lastName, email, age, null, version);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.demo.exception;
+
+/**
+ * Base for exceptions that report an expected outcome (missing resource, stale
+ * version, bad input) rather than a bug. They are thrown on ordinary request
+ * paths, so no stack trace is captured and suppression is disabled; the
+ * handler only needs the message.
+ */
+public abstract class ExpectedException extends RuntimeException {
+    
+    private static final long serialVersionUID = 1L;
+
+    protected ExpectedException(String message) {
+        super(message, null, false, false);
+    }
+}
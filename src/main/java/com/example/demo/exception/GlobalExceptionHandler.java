@@ -1,16 +1,51 @@
 package com.example.demo.exception;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.example.demo.model.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    // Rate limiter permits refresh every second; a full bulkhead frees up within milliseconds
+    private static final long RATE_LIMITED_RETRY_AFTER_SECONDS = 1;
+    private static final long BULKHEAD_FULL_RETRY_AFTER_SECONDS = 1;
+    private static final long TIMEOUT_RETRY_AFTER_SECONDS = 1;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    
+    // Rejections arrive in bursts, so their responses are built once and reused
+    private final Map<String, ResponseEntity<byte[]>> circuitOpenResponses = new ConcurrentHashMap<>();
+    private volatile ResponseEntity<byte[]> rateLimitedResponse;
+    private volatile ResponseEntity<byte[]> bulkheadFullResponse;
+    private volatile ResponseEntity<byte[]> timeoutResponse;
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorDetails> handleResourceNotFoundException(ResourceNotFoundException exception,
                                                                        WebRequest webRequest) {
@@ -23,6 +58,98 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorDetails, HttpStatus.NOT_FOUND);
     }
     
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ErrorDetails> handleConflictException(ConflictException exception,
+                                                                WebRequest webRequest) {
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                exception.getMessage(),
+                webRequest.getDescription(false),
+                "VERSION_CONFLICT");
+        
+        return new ResponseEntity<>(errorDetails, HttpStatus.CONFLICT);
+    }
+    
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorDetails> handleInvalidRequestException(InvalidRequestException exception,
+                                                                      WebRequest webRequest) {
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                exception.getMessage(),
+                webRequest.getDescription(false),
+                "INVALID_REQUEST");
+        
+        return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
+    }
+    
+    // Unique constraint violations, such as a second user with the same email
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorDetails> handleDataIntegrityViolationException(DataIntegrityViolationException exception,
+                                                                              WebRequest webRequest) {
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                isEmailConflict(exception) ? "Email is already in use" : "Data integrity violation",
+                webRequest.getDescription(false),
+                "DATA_CONFLICT");
+        
+        return new ResponseEntity<>(errorDetails, HttpStatus.CONFLICT);
+    }
+    
+    @ExceptionHandler(CallNotPermittedException.class)
+    public ResponseEntity<byte[]> handleCallNotPermittedException(CallNotPermittedException exception) {
+        return circuitOpenResponses.computeIfAbsent(exception.getCausingCircuitBreakerName(), name -> rejection(
+                HttpStatus.SERVICE_UNAVAILABLE, retryAfterSeconds(name),
+                "Service temporarily unavailable", "CIRCUIT_OPEN"));
+    }
+    
+    @ExceptionHandler(RequestNotPermitted.class)
+    public ResponseEntity<byte[]> handleRequestNotPermitted(RequestNotPermitted exception) {
+        ResponseEntity<byte[]> response = rateLimitedResponse;
+        if (response == null) {
+            response = rejection(HttpStatus.TOO_MANY_REQUESTS, RATE_LIMITED_RETRY_AFTER_SECONDS,
+                    "Too many requests", "RATE_LIMITED");
+            rateLimitedResponse = response;
+        }
+        return response;
+    }
+    
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<byte[]> handleBulkheadFullException(BulkheadFullException exception) {
+        ResponseEntity<byte[]> response = bulkheadFullResponse;
+        if (response == null) {
+            response = rejection(HttpStatus.SERVICE_UNAVAILABLE, BULKHEAD_FULL_RETRY_AFTER_SECONDS,
+                    "Service is at capacity", "BULKHEAD_FULL");
+            bulkheadFullResponse = response;
+        }
+        return response;
+    }
+    
+    // The resilience.async.request-timeout backstop of the async resilience endpoints
+    @ExceptionHandler(TimeoutException.class)
+    public ResponseEntity<byte[]> handleTimeoutException(TimeoutException exception) {
+        ResponseEntity<byte[]> response = timeoutResponse;
+        if (response == null) {
+            response = rejection(HttpStatus.GATEWAY_TIMEOUT, TIMEOUT_RETRY_AFTER_SECONDS,
+                    "Service did not respond in time", "TIMEOUT");
+            timeoutResponse = response;
+        }
+        return response;
+    }
+    
+    // Exceptions that carry their own status, such as a rejected /actuator/faults write
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorDetails> handleResponseStatusException(ResponseStatusException exception,
+                                                                      WebRequest webRequest) {
+        HttpStatus status = HttpStatus.resolve(exception.getStatusCode().value());
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                exception.getReason(),
+                webRequest.getDescription(false),
+                status != null ? status.name() : String.valueOf(exception.getStatusCode().value()));
+        
+        return new ResponseEntity<>(errorDetails, exception.getStatusCode());
+    }
+    
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorDetails> handleGlobalException(Exception exception,
                                                              WebRequest webRequest) {
@@ -34,4 +161,32 @@ public class GlobalExceptionHandler {
         
         return new ResponseEntity<>(errorDetails, HttpStatus.INTERNAL_SERVER_ERROR);
     }
+    
+    /**
+     * Serialized once, so the body carries no timestamp or path.
+     */
+    private ResponseEntity<byte[]> rejection(HttpStatus status, long retryAfterSeconds, String message, String errorCode) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(new ErrorDetails(null, message, null, errorCode));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize error body for " + errorCode, e);
+        }
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(body);
+    }
+    
+    // Wait in open state of the breaker, rounded up to whole seconds
+    private long retryAfterSeconds(String circuitBreakerName) {
+        long waitMillis = circuitBreakerRegistry.circuitBreaker(circuitBreakerName).getCircuitBreakerConfig()
+                .getWaitIntervalFunctionInOpenState().apply(1);
+        return Math.max(1, (waitMillis + 999) / 1000);
+    }
+    
+    private static boolean isEmailConflict(DataIntegrityViolationException exception) {
+        String message = exception.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(User.EMAIL_INDEX);
+    }
 }
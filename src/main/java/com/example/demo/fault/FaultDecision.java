@@ -0,0 +1,18 @@
+package com.example.demo.fault;
+
+/**
+ * Outcome drawn for one call to a fault injection target: how long to delay
+ * it and, if it should fail, the exception to fail it with.
+ */
+public record FaultDecision(String target, long latencyMillis, RuntimeException failure) {
+
+    public static final FaultDecision NONE = new FaultDecision(null, 0, null);
+
+    public boolean isNone() {
+        return latencyMillis == 0 && failure == null;
+    }
+
+    public boolean shouldFail() {
+        return failure != null;
+    }
+}
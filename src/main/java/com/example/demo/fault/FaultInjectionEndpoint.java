@@ -0,0 +1,129 @@
+package com.example.demo.fault;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.config.FaultInjectionProperties;
+
+/**
+ * Actuator endpoint ({@code /actuator/faults}) for inspecting and changing
+ * fault injection targets at runtime.
+ */
+@Component
+@Endpoint(id = "faults")
+public class FaultInjectionEndpoint {
+
+    @Autowired
+    private FaultInjector faultInjector;
+
+    @ReadOperation
+    public Map<String, Object> faults() {
+        return faultInjector.describe();
+    }
+
+    @ReadOperation
+    public Map<String, Object> fault(@Selector String target) {
+        return faultInjector.describe(target);
+    }
+
+    /**
+     * Switches fault injection on or off globally and optionally changes the base seed.
+     */
+    @WriteOperation
+    public Map<String, Object> configureAll(@Nullable Boolean enabled, @Nullable Long seed) {
+        if (seed != null) {
+            faultInjector.setSeed(seed);
+        }
+        if (enabled != null) {
+            faultInjector.setEnabled(enabled);
+        }
+        return faultInjector.describe();
+    }
+
+    /**
+     * Creates or updates a target; omitted fields keep their current value.
+     */
+    @WriteOperation
+    public Map<String, Object> configure(@Selector String target,
+            @Nullable Double errorRate,
+            @Nullable String exception,
+            @Nullable String message,
+            @Nullable LatencyDistribution latency,
+            @Nullable Duration latencyMean,
+            @Nullable Duration latencyStdDev,
+            @Nullable Duration latencyMin,
+            @Nullable Duration latencyMax,
+            @Nullable FaultScenario scenario,
+            @Nullable Duration period,
+            @Nullable Double degradedFraction,
+            @Nullable Double brownoutErrorRate,
+            @Nullable Double brownoutLatencyFactor) {
+        FaultInjectionProperties.Target spec = faultInjector.getSpec(target);
+        if (spec == null) {
+            spec = new FaultInjectionProperties.Target();
+        }
+        if (errorRate != null) {
+            spec.setErrorRate(errorRate);
+        }
+        if (exception != null) {
+            spec.setException(exception);
+        }
+        if (message != null) {
+            spec.setMessage(message);
+        }
+        if (latency != null) {
+            spec.setLatency(latency);
+        }
+        if (latencyMean != null) {
+            spec.setLatencyMean(latencyMean);
+        }
+        if (latencyStdDev != null) {
+            spec.setLatencyStdDev(latencyStdDev);
+        }
+        if (latencyMin != null) {
+            spec.setLatencyMin(latencyMin);
+        }
+        if (latencyMax != null) {
+            spec.setLatencyMax(latencyMax);
+        }
+        if (scenario != null) {
+            spec.setScenario(scenario);
+        }
+        if (period != null) {
+            spec.setPeriod(period);
+        }
+        if (degradedFraction != null) {
+            spec.setDegradedFraction(degradedFraction);
+        }
+        if (brownoutErrorRate != null) {
+            spec.setBrownoutErrorRate(brownoutErrorRate);
+        }
+        if (brownoutLatencyFactor != null) {
+            spec.setBrownoutLatencyFactor(brownoutLatencyFactor);
+        }
+        try {
+            faultInjector.configure(target, spec);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+        return faultInjector.describe(target);
+    }
+
+    /**
+     * Removes a target so calls to it are no longer affected.
+     */
+    @DeleteOperation
+    public void remove(@Selector String target) {
+        faultInjector.remove(target);
+    }
+}
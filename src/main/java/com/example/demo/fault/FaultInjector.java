@@ -0,0 +1,255 @@
+package com.example.demo.fault;
+
+import java.lang.reflect.Constructor;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.config.FaultInjectionProperties;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Fault injection engine. Each named target draws from its own random
+ * sequence seeded from {@code fault-injection.seed} and the target name,
+ * so the same configuration and call sequence always yields the same
+ * latencies and failures.
+ */
+@Component
+public class FaultInjector {
+
+    private static final Logger logger = LoggerFactory.getLogger(FaultInjector.class);
+
+    @Autowired
+    private FaultInjectionProperties properties;
+
+    private final Map<String, TargetState> targets = new ConcurrentHashMap<>();
+
+    private volatile boolean enabled;
+
+    private volatile long seed;
+
+    @PostConstruct
+    public void init() {
+        enabled = properties.isEnabled();
+        seed = properties.getSeed();
+        properties.getTargets().forEach(this::configure);
+        logger.info("Fault injection {} with {} target(s): {}",
+                enabled ? "enabled" : "disabled", targets.size(), targets.keySet());
+    }
+
+    /**
+     * Draws the fault for the next call to the given target.
+     */
+    public FaultDecision decide(String target) {
+        if (!enabled) {
+            return FaultDecision.NONE;
+        }
+        TargetState state = targets.get(target);
+        return state != null ? state.next(target) : FaultDecision.NONE;
+    }
+
+    /**
+     * Draws the fault for the next call to the given target and applies it on
+     * the calling thread: sleeps for the injected latency, then throws the
+     * injected failure if there is one.
+     */
+    public void inject(String target) {
+        apply(decide(target));
+    }
+
+    public void apply(FaultDecision decision) {
+        if (decision.isNone()) {
+            return;
+        }
+        if (decision.latencyMillis() > 0) {
+            try {
+                Thread.sleep(decision.latencyMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (decision.shouldFail()) {
+            logger.warn("Injecting {} into '{}'", decision.failure().getClass().getSimpleName(), decision.target());
+            throw decision.failure();
+        }
+    }
+
+    /**
+     * Replaces the spec of a target, restarting its scenario clock and random sequence.
+     *
+     * @throws IllegalArgumentException if the configured exception type cannot be used
+     */
+    public void configure(String target, FaultInjectionProperties.Target spec) {
+        targets.put(target, new TargetState(spec.copy(), seed ^ target.hashCode(), resolveException(spec)));
+    }
+
+    /**
+     * Restarts the scenario clock and random sequence of a target, or of all targets.
+     */
+    public void reset(String target) {
+        if (target == null) {
+            targets.replaceAll((name, state) -> state.restart(seed ^ name.hashCode()));
+        } else {
+            targets.computeIfPresent(target, (name, state) -> state.restart(seed ^ name.hashCode()));
+        }
+    }
+
+    public void remove(String target) {
+        targets.remove(target);
+    }
+
+    public FaultInjectionProperties.Target getSpec(String target) {
+        TargetState state = targets.get(target);
+        return state != null ? state.spec.copy() : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        logger.info("Fault injection {}", enabled ? "enabled" : "disabled");
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Changes the base seed and restarts every target's random sequence.
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+        reset(null);
+    }
+
+    public Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("enabled", enabled);
+        description.put("seed", seed);
+        Map<String, Object> targetDescriptions = new LinkedHashMap<>();
+        targets.forEach((name, state) -> targetDescriptions.put(name, state.describe()));
+        description.put("targets", targetDescriptions);
+        return description;
+    }
+
+    public Map<String, Object> describe(String target) {
+        TargetState state = targets.get(target);
+        return state != null ? state.describe() : null;
+    }
+
+    private Constructor<? extends RuntimeException> resolveException(FaultInjectionProperties.Target spec) {
+        if (!properties.getAllowedExceptions().contains(spec.getException())) {
+            throw new IllegalArgumentException(spec.getException()
+                    + " is not listed in fault-injection.allowed-exceptions");
+        }
+        try {
+            Class<?> type = Class.forName(spec.getException());
+            if (!RuntimeException.class.isAssignableFrom(type)) {
+                throw new IllegalArgumentException(spec.getException() + " is not a RuntimeException");
+            }
+            return type.asSubclass(RuntimeException.class).getConstructor(String.class);
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            throw new IllegalArgumentException("Cannot use " + spec.getException() + " as injected exception", e);
+        }
+    }
+
+    private static final class TargetState {
+
+        private final FaultInjectionProperties.Target spec;
+        private final Constructor<? extends RuntimeException> exceptionConstructor;
+        private final SplittableRandom random;
+        private final long startNanos = System.nanoTime();
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder latencyMillis = new LongAdder();
+
+        TargetState(FaultInjectionProperties.Target spec, long seed,
+                Constructor<? extends RuntimeException> exceptionConstructor) {
+            this.spec = spec;
+            this.exceptionConstructor = exceptionConstructor;
+            this.random = new SplittableRandom(seed);
+        }
+
+        TargetState restart(long seed) {
+            return new TargetState(spec, seed, exceptionConstructor);
+        }
+
+        FaultDecision next(String target) {
+            boolean degraded = isDegraded();
+            double errorRate = spec.getErrorRate();
+            double latencyFactor = 1.0;
+            switch (spec.getScenario()) {
+                case BROWNOUT:
+                    if (degraded) {
+                        errorRate = Math.max(errorRate, spec.getBrownoutErrorRate());
+                        latencyFactor = spec.getBrownoutLatencyFactor();
+                    }
+                    break;
+                case FLAPPING:
+                    if (degraded) {
+                        errorRate = 1.0;
+                    }
+                    break;
+                case HARD_DOWN:
+                    errorRate = 1.0;
+                    break;
+                default:
+                    // STEADY uses the configured values as they are
+            }
+
+            long latency;
+            boolean fail;
+            // SplittableRandom is not thread-safe; draws stay in a fixed order per target
+            synchronized (this) {
+                latency = Math.round(spec.getLatency().sample(random, spec) * latencyFactor);
+                fail = random.nextDouble() < errorRate;
+            }
+
+            calls.increment();
+            latencyMillis.add(latency);
+            if (!fail) {
+                return latency == 0 ? FaultDecision.NONE : new FaultDecision(target, latency, null);
+            }
+            failures.increment();
+            return new FaultDecision(target, latency, newException());
+        }
+
+        boolean isDegraded() {
+            long periodNanos = spec.getPeriod().toNanos();
+            if (periodNanos <= 0) {
+                return true;
+            }
+            long elapsed = (System.nanoTime() - startNanos) % periodNanos;
+            return elapsed < periodNanos * spec.getDegradedFraction();
+        }
+
+        RuntimeException newException() {
+            try {
+                return exceptionConstructor.newInstance(spec.getMessage());
+            } catch (ReflectiveOperationException e) {
+                return new RuntimeException(spec.getMessage());
+            }
+        }
+
+        Map<String, Object> describe() {
+            Map<String, Object> description = new LinkedHashMap<>();
+            description.put("spec", spec);
+            description.put("degraded", spec.getScenario() != FaultScenario.STEADY && isDegraded());
+            description.put("elapsedMs", (System.nanoTime() - startNanos) / 1_000_000);
+            description.put("calls", calls.sum());
+            description.put("injectedFailures", failures.sum());
+            description.put("injectedLatencyMs", latencyMillis.sum());
+            return description;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.demo.fault;
+
+/**
+ * Time-varying behaviour of a fault injection target. The scenario clock
+ * starts when the target is (re)configured.
+ */
+public enum FaultScenario {
+
+    /**
+     * Configured error rate and latency, constant over time.
+     */
+    STEADY,
+
+    /**
+     * Periodically degraded: while degraded, latency is multiplied by the
+     * brownout latency factor and the error rate rises to the brownout error rate.
+     */
+    BROWNOUT,
+
+    /**
+     * Alternates between healthy (configured behaviour) and hard down.
+     */
+    FLAPPING,
+
+    /**
+     * Every call fails after the configured latency.
+     */
+    HARD_DOWN
+}
@@ -0,0 +1,62 @@
+package com.example.demo.fault;
+
+import java.util.random.RandomGenerator;
+
+import com.example.demo.config.FaultInjectionProperties;
+
+/**
+ * Latency distributions available to fault injection targets.
+ */
+public enum LatencyDistribution {
+
+    NONE {
+        @Override
+        double sampleMillis(RandomGenerator random, FaultInjectionProperties.Target spec) {
+            return 0;
+        }
+    },
+
+    FIXED {
+        @Override
+        double sampleMillis(RandomGenerator random, FaultInjectionProperties.Target spec) {
+            return spec.getLatencyMean().toMillis();
+        }
+    },
+
+    UNIFORM {
+        @Override
+        double sampleMillis(RandomGenerator random, FaultInjectionProperties.Target spec) {
+            long min = spec.getLatencyMin().toMillis();
+            long max = Math.max(min, spec.getLatencyMax().toMillis());
+            return min + random.nextDouble() * (max - min);
+        }
+    },
+
+    EXPONENTIAL {
+        @Override
+        double sampleMillis(RandomGenerator random, FaultInjectionProperties.Target spec) {
+            return spec.getLatencyMin().toMillis() + random.nextExponential() * spec.getLatencyMean().toMillis();
+        }
+    },
+
+    NORMAL {
+        @Override
+        double sampleMillis(RandomGenerator random, FaultInjectionProperties.Target spec) {
+            return spec.getLatencyMean().toMillis() + random.nextGaussian() * spec.getLatencyStdDev().toMillis();
+        }
+    };
+
+    abstract double sampleMillis(RandomGenerator random, FaultInjectionProperties.Target spec);
+
+    /**
+     * Draws a latency in milliseconds, clamped to zero and to the configured maximum.
+     */
+    public long sample(RandomGenerator random, FaultInjectionProperties.Target spec) {
+        double millis = Math.max(0, sampleMillis(random, spec));
+        long max = spec.getLatencyMax().toMillis();
+        if (max > 0) {
+            millis = Math.min(millis, max);
+        }
+        return Math.round(millis);
+    }
+}
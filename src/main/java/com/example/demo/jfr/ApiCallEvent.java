@@ -0,0 +1,30 @@
+package com.example.demo.jfr;
+
+import org.aspectj.lang.JoinPoint;
+import org.springframework.http.ResponseEntity;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A REST call through a {@code @LogApiCall} method, recorded by UserControllerAspect.
+ * Asynchronous calls last until their future completes.
+ */
+@Name("com.example.demo.ApiCall")
+@Label("API Call")
+@Category({"SpringBootWebApp", "API"})
+@Description("REST handler method invocation")
+public class ApiCallEvent extends MethodEvent {
+
+    @Label("Status")
+    int status;
+
+    public void complete(JoinPoint joinPoint, Object result, Throwable failure) {
+        if (result instanceof ResponseEntity<?> response) {
+            status = response.getStatusCode().value();
+        }
+        complete(joinPoint, failure);
+    }
+}
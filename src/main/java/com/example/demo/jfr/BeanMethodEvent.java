@@ -0,0 +1,16 @@
+package com.example.demo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A public service, repository or controller method, recorded by LoggingAspect.
+ */
+@Name("com.example.demo.BeanMethod")
+@Label("Bean Method")
+@Category({"SpringBootWebApp", "Beans"})
+@Description("Public method of an application service, repository or controller")
+public class BeanMethodEvent extends MethodEvent {
+}
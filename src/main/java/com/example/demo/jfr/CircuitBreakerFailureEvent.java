@@ -0,0 +1,35 @@
+package com.example.demo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A circuit breaker protected method that threw, recorded by CircuitBreakerLoggingAspect.
+ */
+@Name("com.example.demo.CircuitBreakerFailure")
+@Label("Circuit Breaker Protected Failure")
+@Category({"SpringBootWebApp", "Resilience"})
+@Description("Exception thrown by a circuit breaker protected method")
+@StackTrace(false)
+public class CircuitBreakerFailureEvent extends Event {
+
+    @Label("Circuit Breaker")
+    public String circuitBreaker;
+
+    @Label("Class")
+    public String type;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Exception")
+    public String exception;
+
+    @Label("Rejected")
+    @Description("The exception is a circuit breaker rejection")
+    public boolean rejected;
+}
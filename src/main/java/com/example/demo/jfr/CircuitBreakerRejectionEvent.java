@@ -0,0 +1,19 @@
+package com.example.demo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.demo.CircuitBreakerRejection")
+@Label("Circuit Breaker Rejection")
+@Category({"SpringBootWebApp", "Resilience"})
+@Description("Call not permitted by an open or half-open circuit breaker")
+@StackTrace(false)
+public class CircuitBreakerRejectionEvent extends Event {
+
+    @Label("Circuit Breaker")
+    public String circuitBreaker;
+}
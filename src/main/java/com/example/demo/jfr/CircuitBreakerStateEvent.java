@@ -0,0 +1,25 @@
+package com.example.demo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.demo.CircuitBreakerState")
+@Label("Circuit Breaker State Transition")
+@Category({"SpringBootWebApp", "Resilience"})
+@Description("Circuit breaker moved to a new state")
+@StackTrace(false)
+public class CircuitBreakerStateEvent extends Event {
+
+    @Label("Circuit Breaker")
+    public String circuitBreaker;
+
+    @Label("From State")
+    public String fromState;
+
+    @Label("To State")
+    public String toState;
+}
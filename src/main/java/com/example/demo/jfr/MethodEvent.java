@@ -0,0 +1,55 @@
+package com.example.demo.jfr;
+
+import java.lang.reflect.Method;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.Signature;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base for the timed method events. Callers {@link #begin()} before the call
+ * and {@link #complete} after it; names and outcome are only filled in when
+ * the event is enabled in the running recording and passes its threshold.
+ */
+@Category({"SpringBootWebApp"})
+@StackTrace(false)
+public abstract class MethodEvent extends Event {
+
+    public static final String SUCCESS = "success";
+
+    @Label("Class")
+    String type;
+
+    @Label("Method")
+    String method;
+
+    @Label("Outcome")
+    String outcome;
+
+    public void complete(JoinPoint joinPoint, Throwable failure) {
+        end();
+        if (shouldCommit()) {
+            Signature signature = joinPoint.getSignature();
+            set(signature.getDeclaringType(), signature.getName(), failure);
+            commit();
+        }
+    }
+
+    public void complete(Class<?> type, Method method, Throwable failure) {
+        end();
+        if (shouldCommit()) {
+            set(type, method.getName(), failure);
+            commit();
+        }
+    }
+
+    private void set(Class<?> type, String method, Throwable failure) {
+        this.type = type.getSimpleName();
+        this.method = method;
+        this.outcome = failure == null ? SUCCESS : failure.getClass().getSimpleName();
+    }
+}
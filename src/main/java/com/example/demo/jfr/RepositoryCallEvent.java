@@ -0,0 +1,17 @@
+package com.example.demo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A call to a Spring Data repository, including the methods it inherits,
+ * recorded by RepositoryEventsPostProcessor.
+ */
+@Name("com.example.demo.RepositoryCall")
+@Label("Repository Call")
+@Category({"SpringBootWebApp", "Repositories"})
+@Description("Spring Data repository method invocation")
+public class RepositoryCallEvent extends MethodEvent {
+}
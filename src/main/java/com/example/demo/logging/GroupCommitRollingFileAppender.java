@@ -0,0 +1,199 @@
+package com.example.demo.logging;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import ch.qos.logback.core.rolling.RollingFileAppender;
+import ch.qos.logback.core.util.Duration;
+import ch.qos.logback.core.util.FileSize;
+import ch.qos.logback.core.util.FileUtil;
+
+/**
+ * Rolling file appender that collects encoded events in one direct buffer and
+ * writes them to the file channel together instead of flushing every event.
+ * The buffer is written when it fills up, when {@code maxFlushDelay} has
+ * passed (the window in which events may sit in memory), on rollover and on
+ * stop. With {@code force} each flush is also synced to disk.
+ * <p>
+ * Rolling and triggering policies are used unchanged. Size-based triggering
+ * looks at the file on disk, so a file can exceed {@code maxFileSize} by up
+ * to {@code commitBufferSize} before it rolls over.
+ */
+public class GroupCommitRollingFileAppender<E> extends RollingFileAppender<E> {
+
+    public static final FileSize DEFAULT_COMMIT_BUFFER_SIZE = new FileSize(256 * FileSize.KB_COEFFICIENT);
+    public static final Duration DEFAULT_MAX_FLUSH_DELAY = Duration.buildByMilliseconds(1000);
+
+    private FileSize commitBufferSize = DEFAULT_COMMIT_BUFFER_SIZE;
+    private Duration maxFlushDelay = DEFAULT_MAX_FLUSH_DELAY;
+    private boolean force;
+
+    // Shared by the streams of successive files; only touched under streamWriteLock
+    private ByteBuffer buffer;
+    private ScheduledFuture<?> flusher;
+
+    @Override
+    public void start() {
+        setImmediateFlush(false);
+        super.start();
+        if (!isStarted()) {
+            return;
+        }
+        long delay = maxFlushDelay.getMilliseconds();
+        flusher = getContext().getScheduledExecutorService()
+                .scheduleWithFixedDelay(this::flush, delay, delay, TimeUnit.MILLISECONDS);
+        getContext().addScheduledFuture(flusher);
+    }
+
+    @Override
+    public void stop() {
+        if (flusher != null) {
+            flusher.cancel(false);
+            flusher = null;
+        }
+        super.stop();
+    }
+
+    @Override
+    public void openFile(String fileName) throws IOException {
+        streamWriteLock.lock();
+        try {
+            File file = new File(fileName);
+            if (!FileUtil.createMissingParentDirectories(file)) {
+                addError("Failed to create parent directories for [" + file.getAbsolutePath() + "]");
+            }
+            if (buffer == null) {
+                buffer = ByteBuffer.allocateDirect((int) commitBufferSize.getSize());
+            }
+            FileChannel channel = isAppend()
+                    ? FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                            StandardOpenOption.APPEND)
+                    : FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                            StandardOpenOption.TRUNCATE_EXISTING);
+            setOutputStream(new ChannelOutputStream(channel, buffer, force));
+        } finally {
+            streamWriteLock.unlock();
+        }
+    }
+
+    /**
+     * Writes out whatever is buffered.
+     */
+    public void flush() {
+        streamWriteLock.lock();
+        try {
+            OutputStream outputStream = getOutputStream();
+            if (outputStream != null) {
+                outputStream.flush();
+            }
+        } catch (IOException e) {
+            addError("Failed to flush [" + getFile() + "]", e);
+        } finally {
+            streamWriteLock.unlock();
+        }
+    }
+
+    public FileSize getCommitBufferSize() {
+        return commitBufferSize;
+    }
+
+    public void setCommitBufferSize(FileSize commitBufferSize) {
+        this.commitBufferSize = commitBufferSize;
+    }
+
+    public Duration getMaxFlushDelay() {
+        return maxFlushDelay;
+    }
+
+    public void setMaxFlushDelay(Duration maxFlushDelay) {
+        this.maxFlushDelay = maxFlushDelay;
+    }
+
+    public boolean isForce() {
+        return force;
+    }
+
+    public void setForce(boolean force) {
+        this.force = force;
+    }
+
+    /**
+     * Stream over the file channel that keeps writes in the shared buffer until
+     * it is full or flushed. Not thread-safe; the appender serializes access.
+     */
+    static final class ChannelOutputStream extends OutputStream {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private final boolean force;
+
+        ChannelOutputStream(FileChannel channel, ByteBuffer buffer, boolean force) {
+            this.channel = channel;
+            this.buffer = buffer;
+            this.force = force;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (length <= buffer.remaining()) {
+                buffer.put(bytes, offset, length);
+                return;
+            }
+            if (length < buffer.capacity()) {
+                drain();
+                buffer.put(bytes, offset, length);
+                return;
+            }
+            // Larger than the buffer: write it together with what is pending in one gathering write
+            buffer.flip();
+            ByteBuffer[] sources = {buffer, ByteBuffer.wrap(bytes, offset, length)};
+            while (sources[1].hasRemaining()) {
+                channel.write(sources);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (buffer.position() == 0) {
+                return;
+            }
+            drain();
+            if (force) {
+                channel.force(false);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                buffer.clear();
+                channel.close();
+            }
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
@@ -5,22 +5,47 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 @Entity
-@Table(name = "users")
+// Search indexes end with the id so that their order matches the search queries' order by and pages are
+// read straight off the index instead of sorting every match
+@Table(name = "users", indexes = {
+        @Index(name = User.EMAIL_INDEX, columnList = "email", unique = true),
+        @Index(name = "ix_users_last_name_first_name", columnList = "last_name, first_name, id"),
+        @Index(name = "ix_users_age", columnList = "age, id")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users") // only used with the l2cache profile
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString(exclude = {"password"}) // Exclude password from toString() for security
 public class User {
+
+    public static final String ID_SEQUENCE = "users_seq";
+
+    public static final String EMAIL_INDEX = "ux_users_email";
+
+    /**
+     * Ids fetched from the sequence per round trip (pooled optimizer); unlike
+     * IDENTITY this lets Hibernate batch inserts.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     
     private String firstName;
@@ -30,7 +55,19 @@ public class User {
     
     @Column(length = 100)
     private String password;
+
+    /**
+     * Optimistic lock; bumped by every update so concurrent writers cannot overwrite each other.
+     */
+    @Version
+    private Long version;
     
+    // Constructor for new users; the version is assigned on insert
+    public User(Long id, String firstName, String lastName, String email, int age, String password) {
+        this(id, firstName, lastName, email, age);
+        this.password = password;
+    }
+
     // Constructor without password for convenience
     public User(Long id, String firstName, String lastName, String email, int age) {
         this.id = id;
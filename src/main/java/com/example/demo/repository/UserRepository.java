@@ -1,11 +1,114 @@
 package com.example.demo.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.demo.dto.UserListVersion;
+import com.example.demo.dto.UserSummary;
 import com.example.demo.model.User;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
-    // Custom queries can be added here if needed
+
+    /**
+     * Constructor expression selecting only the columns UserSummary needs.
+     */
+    String SUMMARY_SELECT = "select new com.example.demo.dto.UserSummary("
+            + "u.id, u.firstName, u.lastName, u.email, u.age, u.version) from User u";
+
+    @Query(SUMMARY_SELECT + " where u.id = :id")
+    Optional<UserSummary> findSummaryById(@Param("id") Long id);
+
+    @Query(SUMMARY_SELECT)
+    List<UserSummary> findAllSummaries();
+
+    /**
+     * Keyset page: the next {@code limit} users after the given id, walking the primary key index.
+     */
+    @Query(SUMMARY_SELECT + " where u.id > :id order by u.id")
+    List<UserSummary> findSummariesAfter(@Param("id") Long id, Limit limit);
+
+    /**
+     * All users as a cursor-backed stream; needs an open transaction and must be closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SUMMARY_SELECT + " order by u.id")
+    Stream<UserSummary> streamAllSummaries();
+
+    /**
+     * Exact match on the unique email index.
+     */
+    @Query(SUMMARY_SELECT + " where u.email = :email")
+    Optional<UserSummary> findSummaryByEmail(@Param("email") String email);
+
+    /**
+     * Users whose last name matches a prefix LIKE pattern (wildcards escaped with a backslash), ordered like
+     * the (last name, first name) index so a page reads only its own rows.
+     */
+    @Query(SUMMARY_SELECT + " where u.lastName like :pattern escape '\\' and u.age between :minAge and :maxAge"
+            + " order by u.lastName, u.firstName, u.id")
+    List<UserSummary> findSummariesByLastNameLike(@Param("pattern") String pattern, @Param("minAge") int minAge,
+            @Param("maxAge") int maxAge, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " where u.age between :minAge and :maxAge order by u.age, u.id")
+    List<UserSummary> findSummariesByAgeBetween(@Param("minAge") int minAge, @Param("maxAge") int maxAge,
+            Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " where u.id in :ids")
+    List<UserSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select u.version from User u where u.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Version of the full user list, aggregated from ids and versions without loading any user.
+     */
+    @Query("select new com.example.demo.dto.UserListVersion(count(u), max(u.id), sum(u.version)) from User u")
+    UserListVersion findListVersion();
+
+    /**
+     * Version of the keyset page {@link #findSummariesAfter} would return.
+     */
+    @Query("select new com.example.demo.dto.UserListVersion(count(p.id), max(p.id), sum(p.version))"
+            + " from (select u.id as id, u.version as version from User u where u.id > :id order by u.id"
+            + " limit :limit) p")
+    UserListVersion findListVersionAfter(@Param("id") Long id, @Param("limit") int limit);
+
+    /**
+     * Single-statement update that also bumps the version. With a version it
+     * only matches while that version is current; null skips the check. A null
+     * password hash keeps the stored one.
+     *
+     * @return the number of rows changed, 0 or 1
+     */
+    @Modifying
+    @Query("update User u set u.firstName = :firstName, u.lastName = :lastName, u.email = :email, u.age = :age,"
+            + " u.password = coalesce(:password, u.password), u.version = u.version + 1"
+            + " where u.id = :id and (:version is null or u.version = :version)")
+    int updateDetails(@Param("id") Long id, @Param("version") Long version, @Param("firstName") String firstName,
+            @Param("lastName") String lastName, @Param("email") String email, @Param("age") int age,
+            @Param("password") String password);
+
+    /**
+     * Single-statement delete, with the same optional version check as {@link #updateDetails}.
+     *
+     * @return the number of rows deleted, 0 or 1
+     */
+    @Modifying
+    @Query("delete from User u where u.id = :id and (:version is null or u.version = :version)")
+    int deleteByIdAndVersion(@Param("id") Long id, @Param("version") Long version);
 }
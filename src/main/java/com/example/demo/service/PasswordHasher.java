@@ -0,0 +1,137 @@
+package com.example.demo.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import com.example.demo.config.PasswordHashingProperties;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkhead;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Hashes passwords with BCrypt on the {@code passwordHashing} thread-pool bulkhead,
+ * so the CPU-heavy work never runs on request threads and is bounded by the pool
+ * and its queue. A full queue is rejected with {@link BulkheadFullException}; a
+ * hash that does not finish within the {@code passwordHashing} time limiter is
+ * shed the same way, since both mean the pool is saturated.
+ */
+@Service
+public class PasswordHasher {
+
+    public static final String PASSWORD_HASHING = "passwordHashing";
+
+    @Autowired
+    private ThreadPoolBulkheadRegistry threadPoolBulkheadRegistry;
+
+    @Autowired
+    private TimeLimiterRegistry timeLimiterRegistry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PasswordHashingProperties properties;
+
+    private ThreadPoolBulkhead bulkhead;
+    private TimeLimiter timeLimiter;
+    private BCryptPasswordEncoder encoder;
+    private Timer hashTimer;
+
+    @PostConstruct
+    public void init() {
+        bulkhead = threadPoolBulkheadRegistry.bulkhead(PASSWORD_HASHING);
+        timeLimiter = timeLimiterRegistry.timeLimiter(PASSWORD_HASHING);
+        encoder = new BCryptPasswordEncoder(properties.getStrength());
+        hashTimer = Timer.builder("password.hash")
+                .description("Time spent hashing a password, excluding the queue")
+                .tag("algorithm", "bcrypt")
+                .tag("strength", Integer.toString(properties.getStrength()))
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the hash, or null when no password is given
+     * @throws BulkheadFullException if the pool is saturated
+     */
+    public String hash(String password) {
+        if (!StringUtils.hasLength(password)) {
+            return null;
+        }
+        return await(submit(password));
+    }
+
+    /**
+     * Hashes a batch in parallel, keeping at most one hash per pool thread in
+     * flight so that single requests still find room in the queue.
+     *
+     * @return the hashes in the order of the passwords, null where none is given
+     * @throws BulkheadFullException if the pool is saturated
+     */
+    public List<String> hashAll(List<String> passwords) {
+        List<String> hashes = new ArrayList<>(Collections.nCopies(passwords.size(), null));
+        int window = bulkhead.getBulkheadConfig().getMaxThreadPoolSize();
+        Deque<Pending> inFlight = new ArrayDeque<>(window);
+        for (int i = 0; i < passwords.size(); i++) {
+            if (!StringUtils.hasLength(passwords.get(i))) {
+                continue;
+            }
+            if (inFlight.size() == window) {
+                Pending done = inFlight.poll();
+                hashes.set(done.index(), await(done.hash()));
+            }
+            inFlight.add(new Pending(i, submit(passwords.get(i))));
+        }
+        for (Pending pending : inFlight) {
+            hashes.set(pending.index(), await(pending.hash()));
+        }
+        return hashes;
+    }
+
+    private CompletableFuture<String> submit(String password) {
+        // A hash nobody waits for any more is skipped instead of burning a pool thread
+        long deadline = System.nanoTime() + timeLimiter.getTimeLimiterConfig().getTimeoutDuration().toNanos();
+        return bulkhead.submit(() -> {
+            if (System.nanoTime() - deadline > 0) {
+                throw new TimeoutException("Password hash expired in the queue");
+            }
+            long start = System.nanoTime();
+            try {
+                return encoder.encode(password);
+            } finally {
+                hashTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }).toCompletableFuture();
+    }
+
+    private String await(CompletableFuture<String> hash) {
+        try {
+            return timeLimiter.executeFutureSupplier(() -> hash);
+        } catch (TimeoutException e) {
+            throw BulkheadFullException.createBulkheadFullException(bulkhead);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Password hashing failed", e);
+        }
+    }
+
+    private record Pending(int index, CompletableFuture<String> hash) {
+    }
+}
@@ -1,13 +1,24 @@
 package com.example.demo.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
+import com.example.demo.dto.UserBatchResult;
 import com.example.demo.dto.UserDto;
+import com.example.demo.dto.UserListVersion;
 
 public interface UserService {
     UserDto createUser(UserDto userDto);
     UserDto getUserById(Long id);
+    Long getUserVersion(Long id);
     List<UserDto> getAllUsers();
+    UserListVersion getAllUsersVersion();
+    List<UserDto> getUsersAfter(Long afterId, int limit);
+    UserListVersion getUsersAfterVersion(Long afterId, int limit);
+    void streamAllUsers(Consumer<UserDto> consumer);
+    List<UserDto> searchUsers(String email, String lastNamePrefix, Integer minAge, Integer maxAge, int page, int size);
     UserDto updateUser(Long id, UserDto userDto);
-    void deleteUser(Long id);
+    void deleteUser(Long id, Long version);
+    UserBatchResult createUsers(List<UserDto> users);
+    UserBatchResult updateUsers(List<UserDto> users);
 }
@@ -1,12 +1,21 @@
 package com.example.demo.service.impl;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
+import com.example.demo.aspect.InjectFault;
+
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
 
 /**
  * Example service demonstrating Resilience4j features.
@@ -19,21 +28,25 @@ public class ResilienceExampleService {
     private static final Logger logger = LoggerFactory.getLogger(ResilienceExampleService.class);
     private static final String USER_SERVICE = "userService";
 
+    @Autowired
+    private ThreadPoolBulkheadRegistry threadPoolBulkheadRegistry;
+
+    // Own proxy, so the downstream calls run on the bulkhead thread still get their aspects
+    @Lazy
+    @Autowired
+    private ResilienceExampleService self;
+
     /**
      * Example of a method protected by a circuit breaker.
      * If this method fails frequently enough, the circuit will open
      * and prevent further calls for a period of time.
+     * Failures of the external service are simulated by the "externalService"
+     * fault injection target.
      */
     @CircuitBreaker(name = USER_SERVICE, fallbackMethod = "fallbackForExternalService")
+    @InjectFault("externalService")
     public String callExternalService(String input) {
         logger.info("Calling potentially unstable external service with: {}", input);
-        
-        // Simulate an external service call that might fail
-        if (Math.random() < 0.3) {
-            logger.warn("External service call failed");
-            throw new RuntimeException("External service failed");
-        }
-        
         return "External service response for: " + input;
     }
 
@@ -59,36 +72,26 @@ public class ResilienceExampleService {
     /**
      * Example of a method with automatic retries.
      * If this method fails, it will be retried based on the configuration.
+     * Temporary failures are simulated by the "retryableOperation" fault injection target.
      */
     @Retry(name = USER_SERVICE)
+    @InjectFault("retryableOperation")
     public String retryableOperation(String input) {
         logger.info("Executing retryable operation with: {}", input);
-        
-        // Simulate a failure that should be retried
-        if (Math.random() < 0.5) {
-            logger.warn("Retryable operation failed, will retry");
-            throw new RuntimeException("Temporary failure in retryable operation");
-        }
-        
         return "Retryable operation response for: " + input;
     }
     
     /**
      * Example of combining multiple resilience patterns.
      * This method is protected by a circuit breaker, rate limiter, and retry mechanism.
+     * Failures are simulated by the "combinedOperation" fault injection target.
      */
     @CircuitBreaker(name = USER_SERVICE, fallbackMethod = "fallbackForCombinedOperation")
     @RateLimiter(name = USER_SERVICE)
     @Retry(name = USER_SERVICE)
+    @InjectFault("combinedOperation")
     public String combinedResilienceOperation(String input) {
         logger.info("Executing operation with combined resilience patterns for: {}", input);
-        
-        // Simulate a failure that should be retried and might trigger circuit breaker
-        if (Math.random() < 0.4) {
-            logger.warn("Combined operation failed");
-            throw new RuntimeException("Failure in combined operation");
-        }
-        
         return "Combined resilience operation response for: " + input;
     }
     
@@ -100,4 +103,69 @@ public class ResilienceExampleService {
                 input, ex.getMessage());
         return "Fallback for combined operation: " + input;
     }
+
+    /**
+     * Async variant of {@link #callExternalService}. The call runs on the
+     * "userService" thread-pool bulkhead instead of the request thread, and the
+     * time limiter gives up on it after the configured timeout; timeouts and a
+     * full bulkhead count as circuit breaker failures and get the fallback.
+     */
+    @CircuitBreaker(name = USER_SERVICE, fallbackMethod = "fallbackForExternalServiceAsync")
+    @TimeLimiter(name = USER_SERVICE)
+    public CompletableFuture<String> callExternalServiceAsync(String input) {
+        return onBulkhead(() -> self.externalServiceCall(input));
+    }
+
+    /**
+     * The downstream call behind {@link #callExternalServiceAsync}, invoked on the bulkhead thread.
+     */
+    @InjectFault("externalService")
+    public String externalServiceCall(String input) {
+        logger.info("Calling potentially unstable external service asynchronously with: {}", input);
+        return "External service response for: " + input;
+    }
+
+    public CompletableFuture<String> fallbackForExternalServiceAsync(String input, Exception ex) {
+        return CompletableFuture.completedFuture(fallbackForExternalService(input, ex));
+    }
+
+    /**
+     * Async variant of {@link #combinedResilienceOperation}, with the time
+     * limiter and thread-pool bulkhead added; retries are scheduled rather
+     * than blocking a thread between attempts.
+     */
+    @CircuitBreaker(name = USER_SERVICE, fallbackMethod = "fallbackForCombinedOperationAsync")
+    @RateLimiter(name = USER_SERVICE)
+    @Retry(name = USER_SERVICE)
+    @TimeLimiter(name = USER_SERVICE)
+    public CompletableFuture<String> combinedResilienceOperationAsync(String input) {
+        return onBulkhead(() -> self.combinedOperationCall(input));
+    }
+
+    /**
+     * The downstream call behind {@link #combinedResilienceOperationAsync}, invoked on the bulkhead thread.
+     */
+    @InjectFault("combinedOperation")
+    public String combinedOperationCall(String input) {
+        logger.info("Executing async operation with combined resilience patterns for: {}", input);
+        return "Combined resilience operation response for: " + input;
+    }
+
+    public CompletableFuture<String> fallbackForCombinedOperationAsync(String input, Exception ex) {
+        return CompletableFuture.completedFuture(fallbackForCombinedOperation(input, ex));
+    }
+
+    /**
+     * Runs a call on the "userService" thread-pool bulkhead. This is done here
+     * rather than with @Bulkhead(type = THREADPOOL), which would move the rest
+     * of the advice chain to the pool thread where Spring AOP has no current
+     * invocation. A timed-out call is abandoned, not interrupted: it keeps its
+     * pool thread until it returns, so a slow downstream fills the bounded pool
+     * and further calls are rejected at once instead of waiting.
+     *
+     * @throws io.github.resilience4j.bulkhead.BulkheadFullException if the pool and its queue are full
+     */
+    private <T> CompletableFuture<T> onBulkhead(Supplier<T> call) {
+        return threadPoolBulkheadRegistry.bulkhead(USER_SERVICE).executeSupplier(call).toCompletableFuture();
+    }
 }
@@ -1,33 +1,101 @@
 package com.example.demo.service.impl;
 
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 
+import com.example.demo.config.CacheConfig;
+import com.example.demo.dto.UserBatchResult;
 import com.example.demo.dto.UserDto;
+import com.example.demo.dto.UserListVersion;
+import com.example.demo.dto.UserSummary;
 import com.example.demo.model.User;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.service.PasswordHasher;
 import com.example.demo.service.UserService;
+import com.example.demo.exception.ConflictException;
+import com.example.demo.exception.InvalidRequestException;
 import com.example.demo.exception.ResourceNotFoundException;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
 @Service
 public class UserServiceImpl implements UserService {
     
     private static final Logger logger = LoggerFactory.getLogger(UserServiceImpl.class);
 
+    private static final String BATCH_UPDATE_SQL = "update users set first_name = ?, last_name = ?, email = ?, age = ?,"
+            + " password = coalesce(?, password), version = version + 1 where id = ? and (? is null or version = ?)";
+
+    private static final HibernateJpaDialect JPA_DIALECT = new HibernateJpaDialect();
+
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    // Writes that hash passwords open their transaction afterwards, so no connection waits on the hashing pool
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${users.batch.max-size:1000}")
+    private int maxBatchSize;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int jdbcBatchSize;
+
+    // The l2cache profile caches User entities, so reads by id load the entity rather than a projection
+    @Value("${spring.jpa.properties.hibernate.cache.use_second_level_cache:false}")
+    private boolean secondLevelCacheEnabled;
+
     @Override
     public UserDto createUser(UserDto userDto) {
         logger.debug("Creating a new user with email: {}", userDto.getEmail());
         
         // Convert DTO to entity
-        User user = mapToEntity(userDto);
+        User user = mapToEntity(userDto, passwordHasher.hash(userDto.getPassword()));
         
         // Save entity
         User savedUser = userRepository.save(user);
@@ -38,67 +106,357 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.USERS_CACHE, key = "#id")
     public UserDto getUserById(Long id) {
         logger.debug("Fetching user with ID: {}", id);
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> {
-                    logger.error("User not found with ID: {}", id);
-                    return new ResourceNotFoundException("User not found with id: " + id);
-                });
-        logger.debug("User found: {}", user.getEmail());
-        return mapToDto(user);
+        Optional<UserSummary> found = secondLevelCacheEnabled
+                ? userRepository.findById(id).map(UserServiceImpl::toSummary)
+                : userRepository.findSummaryById(id);
+        UserSummary user = found.orElseThrow(() -> {
+            logger.debug("User not found with ID: {}", id);
+            return new ResourceNotFoundException("User not found with id: " + id);
+        });
+        logger.debug("User found: {}", user.email());
+        return user.toDto();
+    }
+
+    @Override
+    public Long getUserVersion(Long id) {
+        // A cached copy answers without touching the database
+        Cache cache = cacheManager.getCache(CacheConfig.USERS_CACHE);
+        UserDto cached = cache != null ? cache.get(id, UserDto.class) : null;
+        if (cached != null) {
+            return cached.getVersion();
+        }
+        return userRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
     }
 
     @Override
     public List<UserDto> getAllUsers() {
         logger.debug("Fetching all users");
-        List<User> users = userRepository.findAll();
+        List<UserSummary> users = userRepository.findAllSummaries();
         logger.info("Retrieved {} users from database", users.size());
         return users.stream()
-                .map(this::mapToDto)
+                .map(UserSummary::toDto)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public UserListVersion getAllUsersVersion() {
+        return userRepository.findListVersion();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserDto> getUsersAfter(Long afterId, int limit) {
+        logger.debug("Fetching up to {} users after ID: {}", limit, afterId);
+        List<UserSummary> users = userRepository.findSummariesAfter(afterId, Limit.of(limit));
+        logger.debug("Retrieved {} users after ID: {}", users.size(), afterId);
+        return users.stream()
+                .map(UserSummary::toDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public UserListVersion getUsersAfterVersion(Long afterId, int limit) {
+        return userRepository.findListVersionAfter(afterId, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllUsers(Consumer<UserDto> consumer) {
+        logger.debug("Streaming all users");
+        long count = 0;
+        // projections are not managed, so nothing accumulates in the persistence context
+        try (Stream<UserSummary> users = userRepository.streamAllSummaries()) {
+            Iterator<UserSummary> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next().toDto());
+                count++;
+            }
+        }
+        logger.info("Streamed {} users from database", count);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserDto> searchUsers(String email, String lastNamePrefix, Integer minAge, Integer maxAge,
+            int page, int size) {
+        logger.debug("Searching users: email={}, lastNamePrefix={}, age {}..{}, page {} of {}",
+                email, lastNamePrefix, minAge, maxAge, page, size);
+        int fromAge = minAge != null ? minAge : 0;
+        int toAge = maxAge != null ? maxAge : Integer.MAX_VALUE;
+        if (fromAge > toAge) {
+            throw new InvalidRequestException("minAge must not be greater than maxAge");
+        }
+
+        // Each criterion has its own index; the most selective one given drives the query
+        List<UserSummary> users;
+        if (StringUtils.hasText(email)) {
+            users = userRepository.findSummaryByEmail(email)
+                    .filter(user -> page == 0 && user.age() >= fromAge && user.age() <= toAge)
+                    .filter(user -> lastNamePrefix == null || user.lastName().startsWith(lastNamePrefix))
+                    .stream()
+                    .toList();
+        } else if (StringUtils.hasText(lastNamePrefix)) {
+            users = userRepository.findSummariesByLastNameLike(escapeLike(lastNamePrefix) + "%", fromAge, toAge,
+                    PageRequest.of(page, size));
+        } else if (minAge != null || maxAge != null) {
+            users = userRepository.findSummariesByAgeBetween(fromAge, toAge, PageRequest.of(page, size));
+        } else {
+            throw new InvalidRequestException("Search needs at least one of email, lastNamePrefix, minAge or maxAge");
+        }
+        logger.debug("Search found {} users", users.size());
+        return users.stream()
+                .map(UserSummary::toDto)
+                .collect(Collectors.toList());
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
     @Override
     public UserDto updateUser(Long id, UserDto userDto) {
         logger.debug("Updating user with ID: {}", id);
+        String passwordHash = passwordHasher.hash(userDto.getPassword());
         
-        // Check if user exists
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> {
-                    logger.error("Cannot update. User not found with ID: {}", id);
-                    return new ResourceNotFoundException("User not found with id: " + id);
-                });
-        
-        // Update user properties
-        user.setFirstName(userDto.getFirstName());
-        user.setLastName(userDto.getLastName());
-        user.setEmail(userDto.getEmail());
-        user.setAge(userDto.getAge());
-        
-        // Save updated user
-        User updatedUser = userRepository.save(user);
-        logger.info("User with ID: {} updated successfully", updatedUser.getId());
+        // Update in one statement; the version check guards against lost updates
+        Long version = userDto.getVersion();
+        Long newVersion = transactionTemplate.execute(status -> {
+            int updated = userRepository.updateDetails(id, version, userDto.getFirstName(), userDto.getLastName(),
+                    userDto.getEmail(), userDto.getAge(), passwordHash);
+            if (updated == 0) {
+                throw notFoundOrConflict(id, version, "update");
+            }
+            // Evicting rather than putting the result: puts from racing updates could land out of order
+            evictAfterCommit(List.of(id));
+            
+            // The new version is known for checked updates, otherwise read it back
+            return version != null ? version + 1 : userRepository.findVersionById(id).orElse(null);
+        });
+        logger.info("User with ID: {} updated successfully", id);
         
-        return mapToDto(updatedUser);
+        return new UserDto(id, userDto.getFirstName(), userDto.getLastName(), userDto.getEmail(),
+                userDto.getAge(), null, newVersion);
     }
 
     @Override
-    public void deleteUser(Long id) {
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS_CACHE, key = "#id")
+    public void deleteUser(Long id, Long version) {
         logger.debug("Deleting user with ID: {}", id);
         
-        // Check if user exists
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> {
-                    logger.error("Cannot delete. User not found with ID: {}", id);
-                    return new ResourceNotFoundException("User not found with id: " + id);
-                });
-        
-        userRepository.delete(user);
+        if (userRepository.deleteByIdAndVersion(id, version) == 0) {
+            throw notFoundOrConflict(id, version, "delete");
+        }
         logger.info("User with ID: {} deleted successfully", id);
     }
+
+    @Override
+    public UserBatchResult createUsers(List<UserDto> users) {
+        logger.debug("Creating {} users in batch", users.size());
+        List<UserBatchResult.Item> invalid = validateBatch(users, false);
+        if (!invalid.isEmpty()) {
+            logger.warn("Rejected batch create of {} users, {} invalid", users.size(), invalid.size());
+            return UserBatchResult.rejected(users.size(), invalid);
+        }
+        List<String> passwordHashes = passwordHasher.hashAll(passwords(users));
+
+        List<UserBatchResult.Item> items = transactionTemplate.execute(status -> {
+            List<UserBatchResult.Item> created = new ArrayList<>(users.size());
+            for (int i = 0; i < users.size(); i++) {
+                User user = mapToEntity(users.get(i), passwordHashes.get(i));
+                entityManager.persist(user);
+                created.add(new UserBatchResult.Item(i, user.getId(), UserBatchResult.Status.CREATED,
+                        user.getVersion(), null));
+
+                // Flush one JDBC batch at a time and let go of the written entities
+                if ((i + 1) % jdbcBatchSize == 0) {
+                    flush();
+                    entityManager.clear();
+                }
+            }
+            return created;
+        });
+        logger.info("Created {} users in batch", items.size());
+        return UserBatchResult.completed(items);
+    }
+
+    @Override
+    public UserBatchResult updateUsers(List<UserDto> users) {
+        logger.debug("Updating {} users in batch", users.size());
+        List<UserBatchResult.Item> invalid = validateBatch(users, true);
+        if (!invalid.isEmpty()) {
+            logger.warn("Rejected batch update of {} users, {} invalid", users.size(), invalid.size());
+            return UserBatchResult.rejected(users.size(), invalid);
+        }
+
+        List<String> passwordHashes = passwordHasher.hashAll(passwords(users));
+
+        List<UserBatchResult.Item> results = transactionTemplate.execute(status -> {
+            // Same versioned update as updateUser, sent as JDBC batches
+            List<Integer> rows = IntStream.range(0, users.size()).boxed().toList();
+            int[][] batchCounts = jdbcTemplate.batchUpdate(BATCH_UPDATE_SQL, rows, jdbcBatchSize, (ps, row) -> {
+                UserDto user = users.get(row);
+                ps.setString(1, user.getFirstName());
+                ps.setString(2, user.getLastName());
+                ps.setString(3, user.getEmail());
+                ps.setInt(4, user.getAge());
+                ps.setObject(5, passwordHashes.get(row), Types.VARCHAR);
+                ps.setLong(6, user.getId());
+                ps.setObject(7, user.getVersion(), Types.BIGINT);
+                ps.setObject(8, user.getVersion(), Types.BIGINT);
+            });
+            int[] counts = Stream.of(batchCounts).flatMapToInt(Arrays::stream).toArray();
+
+            // Rows that matched nothing and unchecked updates need the current version, fetched in one query
+            List<Long> lookupIds = new ArrayList<>();
+            for (int i = 0; i < users.size(); i++) {
+                if (counts[i] == 0 || users.get(i).getVersion() == null) {
+                    lookupIds.add(users.get(i).getId());
+                }
+            }
+            Map<Long, Long> currentVersions = lookupIds.isEmpty() ? Map.of()
+                    : userRepository.findSummariesByIdIn(lookupIds).stream()
+                            .collect(Collectors.toMap(UserSummary::id, UserSummary::version));
+
+            List<UserBatchResult.Item> items = new ArrayList<>(users.size());
+            List<Long> updatedIds = new ArrayList<>(users.size());
+            for (int i = 0; i < users.size(); i++) {
+                Long id = users.get(i).getId();
+                Long version = users.get(i).getVersion();
+                if (counts[i] > 0) {
+                    Long newVersion = version != null ? version + 1 : currentVersions.get(id);
+                    items.add(new UserBatchResult.Item(i, id, UserBatchResult.Status.UPDATED, newVersion, null));
+                    updatedIds.add(id);
+                } else if (version != null && currentVersions.containsKey(id)) {
+                    items.add(new UserBatchResult.Item(i, id, UserBatchResult.Status.CONFLICT, currentVersions.get(id),
+                            "User with id " + id + " has been modified, expected version " + version));
+                } else {
+                    items.add(new UserBatchResult.Item(i, id, UserBatchResult.Status.NOT_FOUND, null,
+                            "User not found with id: " + id));
+                }
+            }
+            evictAfterCommit(updatedIds);
+            return items;
+        });
+
+        UserBatchResult result = UserBatchResult.completed(results);
+        logger.info("Updated {} of {} users in batch", result.getSucceeded(), result.getTotal());
+        return result;
+    }
+
+    /**
+     * Flushes like the commit would, translating a duplicate email into the same
+     * DataIntegrityViolationException, so large batches fail with 409 like small ones.
+     */
+    private void flush() {
+        try {
+            entityManager.flush();
+        } catch (RuntimeException e) {
+            DataAccessException translated = JPA_DIALECT.translateExceptionIfPossible(e);
+            throw translated != null ? translated : e;
+        }
+    }
+
+    private static List<String> passwords(List<UserDto> users) {
+        return users.stream().map(UserDto::getPassword).toList();
+    }
+
+    /**
+     * Checks the whole batch before anything is written, so one bad entry rejects all of it.
+     */
+    private List<UserBatchResult.Item> validateBatch(List<UserDto> users, boolean update) {
+        List<UserBatchResult.Item> invalid = new ArrayList<>();
+        if (users.size() > maxBatchSize) {
+            invalid.add(new UserBatchResult.Item(maxBatchSize, null, UserBatchResult.Status.INVALID, null,
+                    "Batch exceeds the maximum of " + maxBatchSize + " users"));
+            return invalid;
+        }
+        Set<Long> ids = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (int i = 0; i < users.size(); i++) {
+            UserDto user = users.get(i);
+            String problem = validationProblem(user, update, ids, emails);
+            if (problem != null) {
+                invalid.add(new UserBatchResult.Item(i, user != null ? user.getId() : null,
+                        UserBatchResult.Status.INVALID, null, problem));
+            }
+        }
+        return invalid;
+    }
+
+    private String validationProblem(UserDto user, boolean update, Set<Long> ids, Set<String> emails) {
+        if (user == null) {
+            return "User is missing";
+        }
+        if (!StringUtils.hasText(user.getFirstName())) {
+            return "First name is required";
+        }
+        if (!StringUtils.hasText(user.getLastName())) {
+            return "Last name is required";
+        }
+        if (!StringUtils.hasText(user.getEmail())) {
+            return "Email is required";
+        }
+        if (!emails.add(user.getEmail())) {
+            return "Duplicate email " + user.getEmail();
+        }
+        if (user.getAge() < 0) {
+            return "Age must not be negative";
+        }
+        if (update && user.getId() == null) {
+            return "Id is required";
+        }
+        if (update && !ids.add(user.getId())) {
+            return "Duplicate id " + user.getId();
+        }
+        return null;
+    }
+
+    /**
+     * Updates go straight to JDBC or a bulk statement, past the cache annotations and
+     * Hibernate, so the cached copies of the changed users are dropped once the new
+     * rows are visible.
+     */
+    private void evictAfterCommit(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                Cache cache = cacheManager.getCache(CacheConfig.USERS_CACHE);
+                if (cache != null) {
+                    ids.forEach(cache::evict);
+                }
+                jakarta.persistence.Cache secondLevelCache = entityManager.getEntityManagerFactory().getCache();
+                ids.forEach(id -> secondLevelCache.evict(User.class, id));
+            }
+        });
+    }
+
+    /**
+     * Tells a missing user from a stale version after a write matched no rows.
+     * Only runs on the failure path, so successful writes stay single-statement.
+     */
+    private RuntimeException notFoundOrConflict(Long id, Long version, String action) {
+        if (version != null && userRepository.existsById(id)) {
+            logger.debug("Cannot {}. User with ID: {} is no longer at version {}", action, id, version);
+            return new ConflictException("User with id " + id + " has been modified, expected version " + version);
+        }
+        logger.debug("Cannot {}. User not found with ID: {}", action, id);
+        return new ResourceNotFoundException("User not found with id: " + id);
+    }
     
     // Utility methods for mapping
+    private static UserSummary toSummary(User user) {
+        return new UserSummary(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail(), user.getAge(),
+                user.getVersion());
+    }
+
     private UserDto mapToDto(User user) {
         logger.trace("Converting User entity to UserDto: {}", user.getId());
         UserDto userDto = new UserDto();
@@ -107,23 +465,23 @@ public class UserServiceImpl implements UserService {
         userDto.setLastName(user.getLastName());
         userDto.setEmail(user.getEmail());
         userDto.setAge(user.getAge());
+        userDto.setVersion(user.getVersion());
         // Don't map password to DTO for security reasons
         return userDto;
     }
     
-    private User mapToEntity(UserDto userDto) {
+    private User mapToEntity(UserDto userDto, String passwordHash) {
         logger.trace("Converting UserDto to User entity");
         User user = new User();
-        user.setId(userDto.getId());
+        // A client-supplied id is ignored; ids come from the pooled sequence, no round trip per row
         user.setFirstName(userDto.getFirstName());
         user.setLastName(userDto.getLastName());
         user.setEmail(userDto.getEmail());
         user.setAge(userDto.getAge());
         
-        // Only set password if it's provided in the DTO
-        if (userDto.getPassword() != null && !userDto.getPassword().isEmpty()) {
-            // In a real app, you would hash the password here
-            user.setPassword(userDto.getPassword());
+        // Only set password if it's provided in the DTO; never the plain text
+        if (passwordHash != null) {
+            user.setPassword(passwordHash);
             logger.debug("Password set for user");
         }
         
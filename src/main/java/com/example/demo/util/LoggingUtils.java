@@ -1,6 +1,10 @@
 package com.example.demo.util;
 
 import com.example.demo.aspect.LogSensitive;
+import com.example.demo.exception.ExpectedException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
 import java.lang.reflect.Field;
 import java.util.Collection;
 import java.util.Map;
@@ -13,6 +17,11 @@ import org.slf4j.LoggerFactory;
 public class LoggingUtils {
     
     private static final Logger log = LoggerFactory.getLogger(LoggingUtils.class);
+
+    /**
+     * Collections up to this size are logged element by element by {@link #summarize(Object)}.
+     */
+    public static final int MAX_LOGGED_ELEMENTS = 10;
     
     /**
      * Masks sensitive fields in an object for logging purposes.
@@ -81,6 +90,41 @@ public class LoggingUtils {
         return sb.toString();
     }
     
+    /**
+     * Short form of a value for logging: collections and arrays with more than
+     * {@link #MAX_LOGGED_ELEMENTS} elements are reduced to their type and size,
+     * anything else is returned unchanged.
+     */
+    public static Object summarize(Object obj) {
+        return summarize(obj, MAX_LOGGED_ELEMENTS);
+    }
+
+    /**
+     * Short form of a value for logging, reducing collections and arrays with
+     * more than {@code maxElements} elements to their type and size.
+     */
+    public static Object summarize(Object obj, int maxElements) {
+        if (obj instanceof Collection<?> collection && collection.size() > maxElements) {
+            return obj.getClass().getSimpleName() + "[" + collection.size() + " elements]";
+        }
+        if (obj instanceof Object[] array && array.length > maxElements) {
+            return obj.getClass().getComponentType().getSimpleName() + "[" + array.length + " elements]";
+        }
+        return obj;
+    }
+
+    /**
+     * Whether an exception is an expected outcome rather than a failure: our
+     * {@link ExpectedException}s (404, 409, 400) and Resilience4j rejections.
+     * These are logged at debug level so load shedding doesn't flood the error log.
+     */
+    public static boolean isExpected(Throwable e) {
+        return e instanceof ExpectedException
+                || e instanceof CallNotPermittedException
+                || e instanceof RequestNotPermitted
+                || e instanceof BulkheadFullException;
+    }
+
     /**
      * Masks a string value according to the LogSensitive annotation.
      */
@@ -0,0 +1,90 @@
+package com.example.demo.reactive;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.reactive.ServerWebExchangeContextFilter;
+
+import com.example.demo.aspect.AspectSwitch;
+import com.example.demo.jfr.CircuitBreakerFailureEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+/**
+ * Reactor counterpart of CircuitBreakerLoggingAspect: an operator placed
+ * between the circuit breaker operator and the fallback, so it sees both
+ * downstream failures and rejected calls. Request details come from the
+ * exchange in the Reactor Context. Follows the {@code circuit-breaker}
+ * aspect switch as a whole.
+ */
+@Component
+public class CircuitBreakerFailureCapture {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreakerFailureCapture.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public <T> Function<Mono<T>, Mono<T>> capture(String circuitBreakerName, String method) {
+        return mono -> mono.transformDeferredContextual((source, context) ->
+                source.doOnError(e -> {
+                    if (AspectSwitch.CIRCUIT_BREAKER.isActive()) {
+                        record(circuitBreakerName, method, e, context);
+                    }
+                }));
+    }
+
+    private void record(String circuitBreakerName, String method, Throwable exception, ContextView context) {
+        boolean rejected = exception instanceof CallNotPermittedException;
+        CircuitBreakerFailureEvent event = new CircuitBreakerFailureEvent();
+        if (event.isEnabled()) {
+            event.circuitBreaker = circuitBreakerName;
+            event.type = ReactiveResilienceService.class.getSimpleName();
+            event.method = method;
+            event.exception = exception.getClass().getName();
+            event.rejected = rejected;
+            event.commit();
+        }
+        if (!logger.isDebugEnabled()) {
+            return;
+        }
+        try {
+            Map<String, Object> requestInfo = new HashMap<>();
+            requestInfo.put("circuitBreaker", circuitBreakerName);
+            requestInfo.put("method", ReactiveResilienceService.class.getSimpleName() + "." + method);
+            requestInfo.put("exceptionType", exception.getClass().getName());
+            requestInfo.put("exceptionMessage", exception.getMessage());
+            requestInfo.put("rejected", rejected);
+            ServerWebExchangeContextFilter.getExchange(context)
+                    .ifPresent(exchange -> addHttpRequestDetails(requestInfo, exchange.getRequest()));
+            logger.debug("Circuit Breaker - Request failed: {}", objectMapper.writeValueAsString(requestInfo));
+        } catch (Exception e) {
+            logger.error("Error while logging circuit breaker failure", e);
+        }
+    }
+
+    private void addHttpRequestDetails(Map<String, Object> requestInfo, ServerHttpRequest request) {
+        requestInfo.put("requestId", request.getId());
+        requestInfo.put("url", request.getURI().toString());
+        requestInfo.put("httpMethod", request.getMethod().name());
+        if (request.getRemoteAddress() != null) {
+            requestInfo.put("clientIP", request.getRemoteAddress().getAddress().getHostAddress());
+        }
+        requestInfo.put("parameters", request.getQueryParams().toSingleValueMap());
+        Map<String, String> headers = new HashMap<>();
+        request.getHeaders().forEach((name, values) -> {
+            // Skip sensitive headers
+            String lowerCase = name.toLowerCase();
+            if (!lowerCase.contains("authorization") && !lowerCase.contains("cookie")) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+        requestInfo.put("headers", headers);
+    }
+}
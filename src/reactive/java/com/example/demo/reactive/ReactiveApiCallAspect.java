@@ -0,0 +1,170 @@
+package com.example.demo.reactive;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.filter.reactive.ServerWebExchangeContextFilter;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.example.demo.aspect.AspectSwitch;
+import com.example.demo.aspect.LogApiCall;
+import com.example.demo.jfr.ApiCallEvent;
+import com.example.demo.util.LoggingUtils;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * {@code @LogApiCall} logging for handlers returning a Mono, with the same
+ * log lines and JFR events as UserControllerAspect. The handler method only
+ * assembles the pipeline, so the call is logged and timed when it is
+ * subscribed and the response when it completes. The request comes from the
+ * Reactor Context (see ServerWebExchangeContextFilter), not from a
+ * thread-bound RequestContextHolder, and its id is added to every line so a
+ * call can be followed across the threads it runs on.
+ */
+@Aspect
+@Component
+public class ReactiveApiCallAspect {
+
+    private final Logger log = LoggerFactory.getLogger("UserControllerLogger");
+
+    @Pointcut("(@annotation(com.example.demo.aspect.LogApiCall) || @within(com.example.demo.aspect.LogApiCall))"
+            + " && execution(public reactor.core.publisher.Mono *(..))")
+    public void logApiCall() {
+        // Method is empty as this is just a Pointcut
+    }
+
+    @Around("logApiCall()")
+    public Object logApiCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!AspectSwitch.API_CALLS.isActive(joinPoint)) {
+            return joinPoint.proceed();
+        }
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        LogApiCall logApiCall = getLogApiCallAnnotation(method, joinPoint);
+        Mono<?> result = (Mono<?>) joinPoint.proceed();
+
+        return Mono.deferContextual(context -> {
+            ServerWebExchange exchange = ServerWebExchangeContextFilter.getExchange(context).orElse(null);
+            String requestId = exchange != null ? exchange.getRequest().getId() : "-";
+            if (logApiCall == null || logApiCall.logParams()) {
+                logParams(joinPoint, method, logApiCall, requestId);
+            }
+            boolean timed = logApiCall == null || logApiCall.logExecutionTime();
+            ApiCallEvent event = new ApiCallEvent();
+            if (timed) {
+                event.begin();
+            }
+            long startTime = System.currentTimeMillis();
+            return result
+                    .doOnSuccess(value -> {
+                        if (timed) {
+                            event.complete(joinPoint, value, null);
+                        }
+                        if (logApiCall == null || logApiCall.logResponse()) {
+                            logResponse(joinPoint, logApiCall, value, requestId);
+                        }
+                        if (timed) {
+                            log.info("⏱️ [REST API TIMING] [{}] {}.{}() executed in {} ms", requestId,
+                                    joinPoint.getSignature().getDeclaringType().getSimpleName(),
+                                    joinPoint.getSignature().getName(),
+                                    System.currentTimeMillis() - startTime);
+                        }
+                    })
+                    .doOnError(e -> {
+                        if (timed) {
+                            event.complete(joinPoint, null, e);
+                            logError(joinPoint, e, requestId);
+                        }
+                    });
+        });
+    }
+
+    private void logParams(JoinPoint joinPoint, Method method, LogApiCall logApiCall, String requestId) {
+        String description = logApiCall != null && !logApiCall.value().isEmpty() ? " - " + logApiCall.value() : "";
+        Map<String, Object> maskedParams = new HashMap<>();
+        for (Map.Entry<String, Object> entry : extractMethodParameters(joinPoint, method).entrySet()) {
+            Object value = entry.getValue();
+            Object summary = logApiCall != null && logApiCall.summarize()
+                    ? LoggingUtils.summarize(value, 0) : value;
+            maskedParams.put(entry.getKey(), summary != value ? summary : LoggingUtils.maskSensitiveData(value));
+        }
+        log.info("⬇️ [REST API CALL] [{}] {}.{}(){}  with parameters: {}", requestId,
+                joinPoint.getSignature().getDeclaringType().getSimpleName(),
+                method.getName(),
+                description,
+                maskedParams);
+    }
+
+    private void logResponse(JoinPoint joinPoint, LogApiCall logApiCall, Object result, String requestId) {
+        if (result instanceof ResponseEntity<?> responseEntity) {
+            log.info("⬆️ [REST API RESPONSE] [{}] {}.{}() returned: status={}, body={}", requestId,
+                    joinPoint.getSignature().getDeclaringType().getSimpleName(),
+                    joinPoint.getSignature().getName(),
+                    responseEntity.getStatusCode(),
+                    loggableResponse(logApiCall, responseEntity.getBody()));
+        } else {
+            log.info("⬆️ [REST API RESPONSE] [{}] {}.{}() returned: {}", requestId,
+                    joinPoint.getSignature().getDeclaringType().getSimpleName(),
+                    joinPoint.getSignature().getName(),
+                    loggableResponse(logApiCall, result));
+        }
+    }
+
+    private void logError(JoinPoint joinPoint, Throwable e, String requestId) {
+        if (LoggingUtils.isExpected(e)) {
+            log.debug("[REST API] [{}] {}.{}() ended with {}: {}", requestId,
+                    joinPoint.getSignature().getDeclaringType().getSimpleName(),
+                    joinPoint.getSignature().getName(),
+                    e.getClass().getSimpleName(), e.getMessage());
+            return;
+        }
+        log.error("❌ [REST API ERROR] [{}] {}.{}() threw exception: {}", requestId,
+                joinPoint.getSignature().getDeclaringType().getSimpleName(),
+                joinPoint.getSignature().getName(),
+                e.getMessage());
+    }
+
+    private Object loggableResponse(LogApiCall logApiCall, Object body) {
+        if (logApiCall != null && logApiCall.summarize()) {
+            return String.valueOf(LoggingUtils.summarize(body, 0));
+        }
+        return LoggingUtils.maskSensitiveData(body);
+    }
+
+    private Map<String, Object> extractMethodParameters(JoinPoint joinPoint, Method method) {
+        Map<String, Object> parameters = new HashMap<>();
+        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        Object[] args = joinPoint.getArgs();
+        for (int i = 0; i < args.length; i++) {
+            String paramName = method.getParameters()[i].getName();
+            for (Annotation annotation : parameterAnnotations[i]) {
+                if (annotation instanceof PathVariable pathVariable) {
+                    paramName = "PathVariable:" + (pathVariable.value().isEmpty() ? paramName : pathVariable.value());
+                } else if (annotation instanceof RequestBody) {
+                    paramName = "RequestBody:" + paramName;
+                }
+            }
+            parameters.put(paramName, args[i]);
+        }
+        return parameters;
+    }
+
+    private LogApiCall getLogApiCallAnnotation(Method method, JoinPoint joinPoint) {
+        LogApiCall annotation = method.getAnnotation(LogApiCall.class);
+        return annotation != null ? annotation : joinPoint.getTarget().getClass().getAnnotation(LogApiCall.class);
+    }
+}
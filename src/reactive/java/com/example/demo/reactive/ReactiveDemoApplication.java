@@ -0,0 +1,69 @@
+package com.example.demo.reactive;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.filter.reactive.ServerWebExchangeContextFilter;
+
+import com.example.demo.aspect.AspectSwitchEndpoint;
+import com.example.demo.aspect.AspectSwitches;
+import com.example.demo.config.AspectSwitchProperties;
+import com.example.demo.config.FaultInjectionProperties;
+import com.example.demo.config.RetryBudget;
+import com.example.demo.config.RetryBudgetConfig;
+import com.example.demo.config.RetryBudgetProperties;
+import com.example.demo.fault.FaultInjectionEndpoint;
+import com.example.demo.fault.FaultInjector;
+
+/**
+ * WebFlux variant of the resilience endpoints, built by the reactive profile:
+ *
+ * <pre>
+ * ./mvnw -Preactive spring-boot:run
+ * </pre>
+ *
+ * Shares application.properties (Resilience4j instances, fault injection
+ * targets, logging) with the MVC application; application-reactive.properties
+ * switches off the JPA stack, which the resilience endpoints do not use.
+ */
+@SpringBootApplication
+@EnableAspectJAutoProxy
+@Import({ FaultInjector.class, FaultInjectionProperties.class, FaultInjectionEndpoint.class,
+        AspectSwitches.class, AspectSwitchProperties.class, AspectSwitchEndpoint.class,
+        RetryBudget.class, RetryBudgetProperties.class, RetryBudgetConfig.class })
+public class ReactiveDemoApplication {
+
+    public static final String PROFILE = "reactive";
+
+    public static void main(String[] args) {
+        application().run(args);
+    }
+
+    public static SpringApplicationBuilder application() {
+        return new SpringApplicationBuilder(ReactiveDemoApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .profiles(PROFILE);
+    }
+
+    /**
+     * Reactor Netty; without this Boot would pick Tomcat, which
+     * spring-boot-starter-web also puts on the classpath.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /**
+     * Puts the current exchange into the Reactor Context, where the logging
+     * operators find it instead of in RequestContextHolder.
+     */
+    @Bean
+    public ServerWebExchangeContextFilter serverWebExchangeContextFilter() {
+        return new ServerWebExchangeContextFilter();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.demo.reactive;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.example.demo.exception.ErrorDetails;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+
+/**
+ * Error responses of the reactive endpoints, matching GlobalExceptionHandler
+ * (which takes a servlet WebRequest and so cannot be shared).
+ */
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @ExceptionHandler(CallNotPermittedException.class)
+    public ResponseEntity<ErrorDetails> handleCallNotPermittedException(CallNotPermittedException exception) {
+        Duration wait = Duration.ofMillis(circuitBreakerRegistry.circuitBreaker(exception.getCausingCircuitBreakerName())
+                .getCircuitBreakerConfig().getWaitIntervalFunctionInOpenState().apply(1));
+        return rejection(HttpStatus.SERVICE_UNAVAILABLE, Math.max(1, (wait.toMillis() + 999) / 1000),
+                "Service temporarily unavailable", "CIRCUIT_OPEN");
+    }
+
+    @ExceptionHandler(RequestNotPermitted.class)
+    public ResponseEntity<ErrorDetails> handleRequestNotPermitted(RequestNotPermitted exception) {
+        return rejection(HttpStatus.TOO_MANY_REQUESTS, 1, "Too many requests", "RATE_LIMITED");
+    }
+
+    @ExceptionHandler(TimeoutException.class)
+    public ResponseEntity<ErrorDetails> handleTimeoutException(TimeoutException exception,
+            ServerWebExchange exchange) {
+        return error(HttpStatus.GATEWAY_TIMEOUT, exception, exchange, "TIMEOUT");
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorDetails> handleGlobalException(Exception exception, ServerWebExchange exchange) {
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, exception, exchange, "INTERNAL_SERVER_ERROR");
+    }
+
+    private static ResponseEntity<ErrorDetails> rejection(HttpStatus status, long retryAfterSeconds, String message,
+            String errorCode) {
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(new ErrorDetails(null, message, null, errorCode));
+    }
+
+    private static ResponseEntity<ErrorDetails> error(HttpStatus status, Exception exception,
+            ServerWebExchange exchange, String errorCode) {
+        return ResponseEntity.status(status).body(new ErrorDetails(LocalDateTime.now(), exception.getMessage(),
+                "uri=" + exchange.getRequest().getPath().value(), errorCode));
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.demo.reactive;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.aspect.LogApiCall;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * The ResilienceController endpoints on WebFlux. Same paths and responses;
+ * the "async" variants differ only in adding the time limiter, since every
+ * endpoint here releases its thread while the downstream call is pending.
+ */
+@RestController
+@RequestMapping("/api/resilience")
+@LogApiCall
+public class ReactiveResilienceController {
+
+    @Autowired
+    private ReactiveResilienceService resilienceService;
+
+    @GetMapping("/circuit-breaker/{input}")
+    @LogApiCall("Circuit Breaker Example")
+    public Mono<ResponseEntity<String>> circuitBreakerExample(@PathVariable String input) {
+        return resilienceService.callExternalService(input).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/rate-limiter/{input}")
+    @LogApiCall("Rate Limiter Example")
+    public Mono<ResponseEntity<String>> rateLimiterExample(@PathVariable String input) {
+        return resilienceService.rateLimitedOperation(input).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/retry/{input}")
+    @LogApiCall("Retry Example")
+    public Mono<ResponseEntity<String>> retryExample(@PathVariable String input) {
+        return resilienceService.retryableOperation(input).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/combined/{input}")
+    @LogApiCall("Combined Resilience Patterns Example")
+    public Mono<ResponseEntity<String>> combinedExample(@PathVariable String input) {
+        return resilienceService.combinedResilienceOperation(input).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/async/circuit-breaker/{input}")
+    @LogApiCall("Async Circuit Breaker Example")
+    public Mono<ResponseEntity<String>> asyncCircuitBreakerExample(@PathVariable String input) {
+        return resilienceService.callExternalServiceAsync(input).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/async/combined/{input}")
+    @LogApiCall("Async Combined Resilience Patterns Example")
+    public Mono<ResponseEntity<String>> asyncCombinedExample(@PathVariable String input) {
+        return resilienceService.combinedResilienceOperationAsync(input).map(ResponseEntity::ok);
+    }
+}
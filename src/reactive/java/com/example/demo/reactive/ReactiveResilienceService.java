@@ -0,0 +1,170 @@
+package com.example.demo.reactive;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.fault.FaultDecision;
+import com.example.demo.fault.FaultInjector;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.ratelimiter.operator.RateLimiterOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.reactor.timelimiter.TimeLimiterOperator;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import jakarta.annotation.PostConstruct;
+import reactor.core.publisher.Mono;
+
+/**
+ * ResilienceExampleService on Reactor. The same "userService" instances are
+ * applied with Resilience4j's Reactor operators, nested in the order the
+ * annotations use (retry outermost, then circuit breaker with its fallback,
+ * rate limiter, time limiter), and injected latency is a timer rather than a
+ * sleeping thread.
+ */
+@Service
+public class ReactiveResilienceService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveResilienceService.class);
+    private static final String USER_SERVICE = "userService";
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Autowired
+    private RateLimiterRegistry rateLimiterRegistry;
+
+    @Autowired
+    private RetryRegistry retryRegistry;
+
+    @Autowired
+    private TimeLimiterRegistry timeLimiterRegistry;
+
+    @Autowired
+    private FaultInjector faultInjector;
+
+    @Autowired
+    private CircuitBreakerFailureCapture failureCapture;
+
+    private CircuitBreaker circuitBreaker;
+    private RateLimiter rateLimiter;
+    private Retry retry;
+    private TimeLimiter timeLimiter;
+
+    @PostConstruct
+    public void init() {
+        circuitBreaker = circuitBreakerRegistry.circuitBreaker(USER_SERVICE);
+        rateLimiter = rateLimiterRegistry.rateLimiter(USER_SERVICE);
+        retry = retryRegistry.retry(USER_SERVICE);
+        timeLimiter = timeLimiterRegistry.timeLimiter(USER_SERVICE);
+    }
+
+    public Mono<String> callExternalService(String input) {
+        return downstream("externalService", () -> {
+            logger.info("Calling potentially unstable external service with: {}", input);
+            return "External service response for: " + input;
+        })
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transform(failureCapture.capture(USER_SERVICE, "callExternalService"))
+                .onErrorResume(e -> fallbackForExternalService(input, e));
+    }
+
+    public Mono<String> rateLimitedOperation(String input) {
+        return Mono.fromSupplier(() -> {
+            logger.info("Executing rate limited operation with: {}", input);
+            return "Rate limited operation response for: " + input;
+        })
+                .transformDeferred(RateLimiterOperator.of(rateLimiter));
+    }
+
+    /**
+     * Retries are resubscriptions after a timer, not a blocked thread.
+     */
+    public Mono<String> retryableOperation(String input) {
+        return downstream("retryableOperation", () -> {
+            logger.info("Executing retryable operation with: {}", input);
+            return "Retryable operation response for: " + input;
+        })
+                .transformDeferred(RetryOperator.of(retry));
+    }
+
+    public Mono<String> combinedResilienceOperation(String input) {
+        return downstream("combinedOperation", () -> {
+            logger.info("Executing operation with combined resilience patterns for: {}", input);
+            return "Combined resilience operation response for: " + input;
+        })
+                .transformDeferred(RateLimiterOperator.of(rateLimiter))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transform(failureCapture.capture(USER_SERVICE, "combinedResilienceOperation"))
+                .onErrorResume(e -> fallbackForCombinedOperation(input, e))
+                .transformDeferred(RetryOperator.of(retry));
+    }
+
+    /**
+     * {@link #callExternalService} bounded by the time limiter; a timeout
+     * counts as a circuit breaker failure and gets the fallback.
+     */
+    public Mono<String> callExternalServiceAsync(String input) {
+        return downstream("externalService", () -> {
+            logger.info("Calling potentially unstable external service asynchronously with: {}", input);
+            return "External service response for: " + input;
+        })
+                .transformDeferred(TimeLimiterOperator.of(timeLimiter))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transform(failureCapture.capture(USER_SERVICE, "callExternalServiceAsync"))
+                .onErrorResume(e -> fallbackForExternalService(input, e));
+    }
+
+    public Mono<String> combinedResilienceOperationAsync(String input) {
+        return downstream("combinedOperation", () -> {
+            logger.info("Executing async operation with combined resilience patterns for: {}", input);
+            return "Combined resilience operation response for: " + input;
+        })
+                .transformDeferred(TimeLimiterOperator.of(timeLimiter))
+                .transformDeferred(RateLimiterOperator.of(rateLimiter))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transform(failureCapture.capture(USER_SERVICE, "combinedResilienceOperationAsync"))
+                .onErrorResume(e -> fallbackForCombinedOperation(input, e))
+                .transformDeferred(RetryOperator.of(retry));
+    }
+
+    private Mono<String> fallbackForExternalService(String input, Throwable ex) {
+        logger.warn("Fallback method called for input: {} with exception: {}", input, ex.getMessage());
+        return Mono.just("Fallback response for: " + input);
+    }
+
+    private Mono<String> fallbackForCombinedOperation(String input, Throwable ex) {
+        logger.warn("Fallback for combined operation called for input: {} with exception: {}",
+                input, ex.getMessage());
+        return Mono.just("Fallback for combined operation: " + input);
+    }
+
+    /**
+     * A simulated downstream call with the fault injection target's latency
+     * and failure. Each subscription (and so each retry) draws a new fault;
+     * the latency is waited out on a timer, then the failure is thrown.
+     */
+    private Mono<String> downstream(String target, Supplier<String> call) {
+        return Mono.defer(() -> {
+            FaultDecision decision = faultInjector.decide(target);
+            Mono<String> result = Mono.fromSupplier(() -> {
+                faultInjector.apply(new FaultDecision(decision.target(), 0, decision.failure()));
+                return call.get();
+            });
+            return decision.latencyMillis() > 0
+                    ? Mono.delay(Duration.ofMillis(decision.latencyMillis())).then(result)
+                    : result;
+        });
+    }
+}